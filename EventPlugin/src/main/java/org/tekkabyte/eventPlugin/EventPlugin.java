@@ -3,11 +3,15 @@ package org.tekkabyte.eventPlugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.tekkabyte.eventPlugin.commands.*;
 import org.tekkabyte.eventPlugin.database.DatabaseManager;
-import org.tekkabyte.eventPlugin.gui.AdminGUI;
 import org.tekkabyte.eventPlugin.gui.CraftingGUI;
+import org.tekkabyte.eventPlugin.gui.MenuRefresher;
 import org.tekkabyte.eventPlugin.listeners.*;
+import org.tekkabyte.eventPlugin.managers.DeliveryManager;
 import org.tekkabyte.eventPlugin.managers.EventManager;
+import org.tekkabyte.eventPlugin.managers.InventoryDigestCache;
+import org.tekkabyte.eventPlugin.managers.RatingManager;
 import org.tekkabyte.eventPlugin.managers.RecipeManager;
+import org.tekkabyte.eventPlugin.managers.StateJournal;
 import org.tekkabyte.eventPlugin.managers.WorldManager;
 
 public class EventPlugin extends JavaPlugin {
@@ -16,10 +20,15 @@ public class EventPlugin extends JavaPlugin {
 
     private DatabaseManager databaseManager;
     private RecipeManager recipeManager;
+    private DeliveryManager deliveryManager;
+    private RatingManager ratingManager;
+    private StateJournal stateJournal;
 
     private EventManager eventManager;
     private WorldManager worldManager;
 
+    private InventoryDigestCache inventoryDigestCache;
+    private MenuRefresher menuRefresher;
     private CraftingGUI craftingGUI;
 
     @Override
@@ -32,9 +41,25 @@ public class EventPlugin extends JavaPlugin {
         databaseManager = new DatabaseManager(this);
         databaseManager.initialize();
 
+        deliveryManager = new DeliveryManager(this, databaseManager);
+        deliveryManager.load();
+
         recipeManager = new RecipeManager(this, databaseManager);
         recipeManager.loadRecipes();
 
+        ratingManager = new RatingManager(this, databaseManager);
+        ratingManager.preload(getServer().getOnlinePlayers().stream().map(p -> p.getUniqueId()).toList());
+
+        stateJournal = new StateJournal(this, databaseManager);
+        stateJournal.load();
+
+        inventoryDigestCache = new InventoryDigestCache(this);
+        getServer().getPluginManager().registerEvents(new InventoryDigestListener(inventoryDigestCache), this);
+
+        menuRefresher = new MenuRefresher(this);
+        inventoryDigestCache.addInvalidationListener(menuRefresher::markViewer);
+        menuRefresher.start();
+
         craftingGUI = new CraftingGUI(this, recipeManager);
 
         var craftCmd = getCommand("ecraft");
@@ -49,13 +74,13 @@ public class EventPlugin extends JavaPlugin {
         if (setRecipeCmd != null) setRecipeCmd.setExecutor(new SetRecipeCommand(this, recipeManager));
         else getLogger().severe("Command 'setrecipe' missing from plugin.yml!");
 
-        AdminGUI adminGUI = new AdminGUI(this, recipeManager);
-        getServer().getPluginManager().registerEvents(new AdminGUIListener(this, recipeManager, adminGUI), this);
-
-        getServer().getPluginManager().registerEvents(new GUIListener(this, recipeManager, craftingGUI), this);
+        getServer().getPluginManager().registerEvents(new MenuListener(menuRefresher), this);
 
         worldManager = new WorldManager(this);
+        worldManager.start();
         eventManager = new EventManager(this);
+        getServer().getOnlinePlayers().forEach(eventManager::restoreIfStale);
+        getServer().getOnlinePlayers().forEach(deliveryManager::deliverHeld);
 
         registerEventCommands();
         registerEventListeners();
@@ -66,6 +91,9 @@ public class EventPlugin extends JavaPlugin {
     @Override
     public void onDisable() {
         if (eventManager != null) eventManager.shutdown();
+        if (worldManager != null) worldManager.shutdown();
+        if (menuRefresher != null) menuRefresher.stop();
+        if (recipeManager != null) recipeManager.shutdown();
         if (databaseManager != null) databaseManager.close();
         getLogger().info("EventCrafting + EventPlugin disabled.");
     }
@@ -84,6 +112,7 @@ public class EventPlugin extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new EventListener(this), this);
         getServer().getPluginManager().registerEvents(new CommandBlockListener(this), this);
         getServer().getPluginManager().registerEvents(new UHCWaitingBoxProtectListener(this), this);
+        getServer().getPluginManager().registerEvents(new ArenaTrackingListener(this), this);
     }
 
     public static EventPlugin getInstance() {
@@ -94,6 +123,18 @@ public class EventPlugin extends JavaPlugin {
         return recipeManager;
     }
 
+    public DeliveryManager getDeliveryManager() {
+        return deliveryManager;
+    }
+
+    public RatingManager getRatingManager() {
+        return ratingManager;
+    }
+
+    public StateJournal getStateJournal() {
+        return stateJournal;
+    }
+
     public DatabaseManager getDatabaseManager() {
         return databaseManager;
     }
@@ -106,6 +147,14 @@ public class EventPlugin extends JavaPlugin {
         return worldManager;
     }
 
+    public InventoryDigestCache getInventoryDigestCache() {
+        return inventoryDigestCache;
+    }
+
+    public MenuRefresher getMenuRefresher() {
+        return menuRefresher;
+    }
+
     public CraftingGUI getCraftingGUI() {
         return craftingGUI;
     }
@@ -1,5 +1,6 @@
 package org.tekkabyte.eventPlugin.commands;
 
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -8,11 +9,16 @@ import org.bukkit.entity.Player;
 import org.tekkabyte.eventPlugin.EventPlugin;
 import org.tekkabyte.eventPlugin.gui.AdminGUI;
 import org.tekkabyte.eventPlugin.managers.RecipeManager;
+import org.tekkabyte.eventPlugin.utils.CodecBenchmark;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class CraftAdminCommand implements CommandExecutor {
     private final EventPlugin plugin;
     private final RecipeManager recipeManager;
     private final AdminGUI adminGUI;
+    private final AtomicBoolean benchmarkRunning = new AtomicBoolean(false);
 
     public CraftAdminCommand(EventPlugin plugin, RecipeManager recipeManager) {
         this.plugin = plugin;
@@ -22,6 +28,46 @@ public class CraftAdminCommand implements CommandExecutor {
 
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (args.length >= 1 && args[0].equalsIgnoreCase("benchmark")) {
+            if (!sender.hasPermission("craftevents.admin")) {
+                sender.sendMessage(ChatColor.RED + "You don't have permission to use this command!");
+                return true;
+            }
+
+            int iterations = 100;
+            if (args.length >= 2) {
+                try {
+                    iterations = Math.max(1, Math.min(1000, Integer.parseInt(args[1])));
+                } catch (NumberFormatException ignored) {}
+            }
+
+            if (!benchmarkRunning.compareAndSet(false, true)) {
+                sender.sendMessage(ChatColor.RED + "A codec benchmark is already running.");
+                return true;
+            }
+
+            int rounds = iterations;
+            List<CodecBenchmark.Sample> samples = CodecBenchmark.capture(recipeManager.getAllRecipes());
+            sender.sendMessage(ChatColor.YELLOW + "Running codec benchmark in the background...");
+
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                List<String> report;
+                try {
+                    report = CodecBenchmark.run(samples, rounds);
+                } catch (Throwable t) {
+                    report = List.of("Codec benchmark failed: " + t.getMessage());
+                } finally {
+                    benchmarkRunning.set(false);
+                }
+
+                List<String> lines = report;
+                Bukkit.getScheduler().runTask(plugin, () -> {
+                    for (String line : lines) sender.sendMessage(ChatColor.YELLOW + line);
+                });
+            });
+            return true;
+        }
+
         if (!(sender instanceof Player)) {
             sender.sendMessage(ChatColor.RED + "This command can only be used by players!");
             return true;
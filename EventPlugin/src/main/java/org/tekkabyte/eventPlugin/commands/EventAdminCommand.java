@@ -7,6 +7,9 @@ import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.tekkabyte.eventPlugin.EventPlugin;
+import org.tekkabyte.eventPlugin.events.TournamentEvent;
+import org.tekkabyte.eventPlugin.events.UHCEvent;
+import org.tekkabyte.eventPlugin.world.ChunkPregenerator;
 
 public class EventAdminCommand implements CommandExecutor {
     private final EventPlugin plugin;
@@ -40,6 +43,18 @@ public class EventAdminCommand implements CommandExecutor {
                 handleSetBorder((Player) sender, args[1]);
                 break;
 
+            case "pregen":
+                handlePregen(sender, args.length >= 2 ? args[1].toLowerCase() : "status");
+                break;
+
+            case "bracket":
+                if (!(plugin.getEventManager().getActiveEvent() instanceof TournamentEvent tournament)) {
+                    sender.sendMessage("§c[Event] No tournament is running.");
+                    return true;
+                }
+                for (String line : tournament.describeBracket()) sender.sendMessage(line);
+                break;
+
             default:
                 sendHelp(sender);
                 break;
@@ -48,6 +63,26 @@ public class EventAdminCommand implements CommandExecutor {
         return true;
     }
 
+    private void handlePregen(CommandSender sender, String action) {
+        if (!(plugin.getEventManager().getActiveEvent() instanceof UHCEvent uhc) || uhc.getPregenerator() == null) {
+            sender.sendMessage("§c[Event] No UHC world is being pre-generated.");
+            return;
+        }
+
+        ChunkPregenerator pregen = uhc.getPregenerator();
+        if (action.equals("stop")) {
+            if (!pregen.isRunning()) {
+                sender.sendMessage("§e[Event] Pre-generation is not running.");
+                return;
+            }
+            pregen.stop();
+            sender.sendMessage("§a[Event] Pre-generation stopped. The match can be started now.");
+            return;
+        }
+
+        sender.sendMessage("§e[Event] Pre-generation " + pregen.describe());
+    }
+
     private void handleSetBorder(Player player, String sizeStr) {
         try {
             double size = Double.parseDouble(sizeStr);
@@ -64,5 +99,7 @@ public class EventAdminCommand implements CommandExecutor {
     private void sendHelp(CommandSender sender) {
         sender.sendMessage("§e=== Event Admin Commands ===");
         sender.sendMessage("§e/eventadmin setborder <size> §7- Set world border");
+        sender.sendMessage("§e/eventadmin pregen [status|stop] §7- UHC world pre-generation progress");
+        sender.sendMessage("§e/eventadmin bracket §7- Tournament bracket progress");
     }
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.tekkabyte.eventPlugin.EventPlugin;
+import org.tekkabyte.eventPlugin.events.TournamentEvent;
+import org.tekkabyte.eventPlugin.events.UHCEvent;
 import org.tekkabyte.eventPlugin.managers.EventManager;
 
 public class EventCommand implements CommandExecutor {
@@ -35,7 +37,7 @@ public class EventCommand implements CommandExecutor {
                     return true;
                 }
                 if (args.length < 2) {
-                    sender.sendMessage("§cUsage: /event create <uhc|tournament> [1v1|2v2]");
+                    sender.sendMessage("§cUsage: /event create <uhc|tournament> [1v1|2v2|NvN]");
                     return true;
                 }
                 handleCreate(sender, args);
@@ -50,6 +52,10 @@ public class EventCommand implements CommandExecutor {
                     sender.sendMessage(plugin.getMessage("event-not-created"));
                     return true;
                 }
+                if (manager.getActiveEvent() instanceof UHCEvent uhc && uhc.getStartBlockReason() != null) {
+                    sender.sendMessage(uhc.getStartBlockReason());
+                    return true;
+                }
                 manager.startMatch();
                 break;
 
@@ -130,21 +136,20 @@ public class EventCommand implements CommandExecutor {
                 break;
 
             case "tournament":
-                if (!mode.equals("1v1") && !mode.equals("2v2")) mode = "1v1";
+                if (TournamentEvent.parseTeamSize(mode) == 0) mode = "1v1";
                 manager.createTournament(mode);
                 sender.sendMessage(plugin.getMessage("event-created").replace("{type}", "Tournament (" + mode + ")"));
                 break;
 
-            case "1v1":
-            case "2v2":
-                manager.createTournament(type);
-                String eventBc = plugin.getMessage("event-created").replace("{type}", "Tournament (" + type + ")");
-                Bukkit.broadcastMessage(eventBc);
-                break;
-
             default:
-                sender.sendMessage("§cInvalid event type! Use 'uhc' or 'tournament' (with 1v1/2v2).");
-                sender.sendMessage("§cUsage: /event create tournament <1v1|2v2>");
+                if (TournamentEvent.parseTeamSize(type) > 0) {
+                    manager.createTournament(type);
+                    String eventBc = plugin.getMessage("event-created").replace("{type}", "Tournament (" + type + ")");
+                    Bukkit.broadcastMessage(eventBc);
+                    break;
+                }
+                sender.sendMessage("§cInvalid event type! Use 'uhc' or 'tournament' (with 1v1/2v2/NvN).");
+                sender.sendMessage("§cUsage: /event create tournament <1v1|2v2|NvN>");
                 break;
         }
     }
@@ -152,7 +157,7 @@ public class EventCommand implements CommandExecutor {
     private void sendHelp(CommandSender sender) {
         sender.sendMessage("§e=== Event Commands ===");
         sender.sendMessage("§e/event create uhc §7- Create a UHC event (prep world/lobby)");
-        sender.sendMessage("§e/event create tournament <1v1|2v2> §7- Create a tournament");
+        sender.sendMessage("§e/event create tournament <1v1|2v2|NvN> §7- Create a tournament");
         sender.sendMessage("§e/event start §7- Start the created event");
         sender.sendMessage("§e/event join §7- Join the created event");
         sender.sendMessage("§e/event leave §7- Leave the event");
@@ -3,53 +3,172 @@ package org.tekkabyte.eventPlugin.database;
 import org.bukkit.inventory.ItemStack;
 import org.tekkabyte.eventPlugin.EventPlugin;
 import org.tekkabyte.eventPlugin.models.CustomRecipe;
+import org.tekkabyte.eventPlugin.models.PlayerRating;
+import org.tekkabyte.eventPlugin.utils.ItemStackCodec;
 
 import java.io.File;
 import java.sql.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 public class DatabaseManager {
 
     private final EventPlugin plugin;
 
-    private Connection connection;
+    private ManagedConnection writer;
+    private ManagedConnection reader;
     private volatile boolean connected = false;
 
+    private WriteBehindQueue writeQueue;
+
+    private static final int SCHEMA_BINARY_ITEMS = 1;
+
+    private static final Set<String> SYNCHRONOUS_MODES = Set.of("OFF", "NORMAL", "FULL", "EXTRA");
+
+    private static final String SQL_UPSERT = """
+            INSERT INTO recipes (id, name, result, materials, max_uses, uses)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT(id) DO UPDATE SET
+              name=excluded.name,
+              result=excluded.result,
+              materials=excluded.materials,
+              max_uses=excluded.max_uses,
+              uses=excluded.uses;
+        """;
+    private static final String SQL_DELETE = "DELETE FROM recipes WHERE id = ?;";
+    private static final String SQL_ADD_USES = "UPDATE recipes SET uses = uses + ? WHERE id = ?;";
+    private static final String SQL_CLAIM_USES =
+            "UPDATE recipes SET uses = uses + ? WHERE id = ? AND (max_uses < 0 OR uses + ? <= max_uses);";
+    private static final String SQL_LOAD_ALL = "SELECT id, name, result, materials, max_uses, uses FROM recipes;";
+    private static final String SQL_UPSERT_RATING = """
+            INSERT INTO player_ratings (uuid, rating, matches, wins, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT(uuid) DO UPDATE SET
+              rating=excluded.rating,
+              matches=excluded.matches,
+              wins=excluded.wins,
+              updated_at=excluded.updated_at;
+        """;
+    private static final int RATING_LOAD_CHUNK = 500;
+    private static final String SQL_UPSERT_JOURNAL = """
+            INSERT INTO state_journal (uuid, state, return_location, updated_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT(uuid) DO UPDATE SET
+              state=excluded.state,
+              return_location=excluded.return_location,
+              updated_at=excluded.updated_at;
+        """;
+    private static final String SQL_JOURNAL_RETURN = "UPDATE state_journal SET return_location = ?, updated_at = ? WHERE uuid = ?;";
+    private static final String SQL_DELETE_JOURNAL = "DELETE FROM state_journal WHERE uuid = ?;";
+    private static final String SQL_QUARANTINE_JOURNAL = """
+            INSERT INTO state_journal_quarantine (uuid, state, return_location, updated_at, reason, quarantined_at)
+            SELECT uuid, state, return_location, updated_at, ?, ? FROM state_journal WHERE uuid = ?;
+        """;
+    private static final String SQL_INSERT_DELIVERY =
+            "INSERT OR REPLACE INTO held_deliveries (id, uuid, items, created_at) VALUES (?, ?, ?, ?);";
+    private static final String SQL_DELETE_DELIVERY = "DELETE FROM held_deliveries WHERE id = ?;";
+    private static final String SQL_INSERT_RATING_RESULT =
+            "INSERT OR REPLACE INTO rating_results (id, uuid, score, won, created_at) VALUES (?, ?, ?, ?, ?);";
+    private static final String SQL_DELETE_RATING_RESULT = "DELETE FROM rating_results WHERE id = ?;";
+    // Only drops the live row once its copy is in quarantine
+    private static final String SQL_DELETE_QUARANTINED =
+            "DELETE FROM state_journal WHERE uuid = ? AND EXISTS (SELECT 1 FROM state_journal_quarantine q WHERE q.uuid = state_journal.uuid);";
+
     public DatabaseManager(EventPlugin plugin) {
         this.plugin = plugin;
     }
 
     public void initialize() {
-        try {
-            if (!plugin.getDataFolder().exists()) {
-                plugin.getDataFolder().mkdirs();
-            }
+        if (!plugin.getDataFolder().exists()) {
+            plugin.getDataFolder().mkdirs();
+        }
+
+        String fileName = plugin.getConfig().getString("database.sqlite-file", "data.db");
+        File dbFile = new File(plugin.getDataFolder(), fileName);
 
-            String fileName = plugin.getConfig().getString("database.sqlite-file", "data.db");
-            File dbFile = new File(plugin.getDataFolder(), fileName);
+        initialize("jdbc:sqlite:" + dbFile.getAbsolutePath(), dbFile.getAbsolutePath());
+    }
 
+    // Package-private so tests can run against an in-memory database
+    void initialize(String url, String location) {
+        try {
             Class.forName("org.sqlite.JDBC");
 
-            String url = "jdbc:sqlite:" + dbFile.getAbsolutePath();
-            connection = DriverManager.getConnection(url);
+            String synchronous = plugin.getConfig().getString("database.synchronous", "NORMAL").toUpperCase(Locale.ROOT);
+            if (!SYNCHRONOUS_MODES.contains(synchronous)) synchronous = "NORMAL";
+            int busyTimeoutMs = plugin.getConfig().getInt("database.busy-timeout-ms", 5000);
+
+            writer = ManagedConnection.openWriter(url, synchronous, busyTimeoutMs);
 
-            try (Statement st = connection.createStatement()) {
-                st.execute("PRAGMA foreign_keys = ON;");
+            try (Statement st = writer.raw().createStatement()) {
                 st.execute("""
                     CREATE TABLE IF NOT EXISTS recipes (
                       id TEXT PRIMARY KEY,
                       name TEXT NOT NULL,
-                      result TEXT NOT NULL,
-                      materials TEXT NOT NULL
+                      result BLOB NOT NULL,
+                      materials BLOB NOT NULL
+                    );
+                """);
+                st.execute("""
+                    CREATE TABLE IF NOT EXISTS player_ratings (
+                      uuid TEXT PRIMARY KEY,
+                      rating REAL NOT NULL,
+                      matches INTEGER NOT NULL DEFAULT 0,
+                      wins INTEGER NOT NULL DEFAULT 0,
+                      updated_at INTEGER NOT NULL DEFAULT 0
+                    );
+                """);
+                st.execute("""
+                    CREATE TABLE IF NOT EXISTS state_journal (
+                      uuid TEXT PRIMARY KEY,
+                      state BLOB NOT NULL,
+                      return_location TEXT,
+                      updated_at INTEGER NOT NULL DEFAULT 0
+                    );
+                """);
+                st.execute("""
+                    CREATE TABLE IF NOT EXISTS rating_results (
+                      id TEXT PRIMARY KEY,
+                      uuid TEXT NOT NULL,
+                      score REAL NOT NULL,
+                      won INTEGER NOT NULL,
+                      created_at INTEGER NOT NULL
+                    );
+                """);
+                st.execute("""
+                    CREATE TABLE IF NOT EXISTS held_deliveries (
+                      id TEXT PRIMARY KEY,
+                      uuid TEXT NOT NULL,
+                      items BLOB NOT NULL,
+                      created_at INTEGER NOT NULL
+                    );
+                """);
+                st.execute("""
+                    CREATE TABLE IF NOT EXISTS state_journal_quarantine (
+                      id INTEGER PRIMARY KEY AUTOINCREMENT,
+                      uuid TEXT NOT NULL,
+                      state BLOB NOT NULL,
+                      return_location TEXT,
+                      updated_at INTEGER NOT NULL DEFAULT 0,
+                      reason TEXT NOT NULL,
+                      quarantined_at INTEGER NOT NULL
                     );
                 """);
             }
 
             ensureColumns();
+            migrateLegacyEncoding();
+            compactIfFragmented();
+
+            reader = ManagedConnection.openReader(url, busyTimeoutMs);
 
             connected = true;
-            plugin.getLogger().info("[Database] Using SQLite at " + dbFile.getAbsolutePath());
+
+            long flushIntervalMs = plugin.getConfig().getLong("database.flush-interval-ms", 500L);
+            writeQueue = new WriteBehindQueue(plugin, this, flushIntervalMs);
+            writeQueue.start();
+
+            plugin.getLogger().info("[Database] Using SQLite at " + location + " (WAL, synchronous=" + synchronous + ")");
         } catch (Throwable t) {
             connected = false;
             plugin.getLogger().severe("[Database] Failed to initialize SQLite. Recipes will NOT persist!");
@@ -57,13 +176,32 @@ public class DatabaseManager {
         }
     }
 
+    private void compactIfFragmented() {
+        try (Statement st = writer.raw().createStatement()) {
+            long pages = 0;
+            long free = 0;
+            try (ResultSet rs = st.executeQuery("PRAGMA page_count;")) {
+                if (rs.next()) pages = rs.getLong(1);
+            }
+            try (ResultSet rs = st.executeQuery("PRAGMA freelist_count;")) {
+                if (rs.next()) free = rs.getLong(1);
+            }
+            if (pages < 64 || free * 4 < pages) return;
+
+            st.execute("VACUUM;");
+            plugin.getLogger().info("[Database] Compacted database file (" + free + " of " + pages + " pages were free).");
+        } catch (SQLException e) {
+            plugin.getLogger().warning("[Database] Compaction skipped: " + e.getMessage());
+        }
+    }
+
     private void ensureColumns() {
-        if (connection == null) return;
+        if (writer == null) return;
 
         boolean hasMaxUses = false;
         boolean hasUses = false;
 
-        try (PreparedStatement ps = connection.prepareStatement("PRAGMA table_info(recipes);");
+        try (PreparedStatement ps = writer.raw().prepareStatement("PRAGMA table_info(recipes);");
              ResultSet rs = ps.executeQuery()) {
             while (rs.next()) {
                 String name = rs.getString("name");
@@ -75,7 +213,7 @@ public class DatabaseManager {
             e.printStackTrace();
         }
 
-        try (Statement st = connection.createStatement()) {
+        try (Statement st = writer.raw().createStatement()) {
             if (!hasMaxUses) st.execute("ALTER TABLE recipes ADD COLUMN max_uses INTEGER NOT NULL DEFAULT -1;");
             if (!hasUses) st.execute("ALTER TABLE recipes ADD COLUMN uses INTEGER NOT NULL DEFAULT 0;");
         } catch (SQLException e) {
@@ -84,70 +222,499 @@ public class DatabaseManager {
         }
     }
 
+    private void migrateLegacyEncoding() {
+        if (writer == null) return;
+
+        Connection connection = writer.raw();
+        int migrated = 0;
+        List<String> failed = new ArrayList<>();
+        try {
+            int userVersion = 0;
+            try (Statement st = connection.createStatement();
+                 ResultSet rs = st.executeQuery("PRAGMA user_version;")) {
+                if (rs.next()) userVersion = rs.getInt(1);
+            }
+            if (userVersion >= SCHEMA_BINARY_ITEMS) return;
+
+            connection.setAutoCommit(false);
+            String select = "SELECT id, result, materials FROM recipes WHERE typeof(result) = 'text' OR typeof(materials) = 'text';";
+            String update = "UPDATE recipes SET result = ?, materials = ? WHERE id = ?;";
+
+            List<Object[]> legacyRows = new ArrayList<>();
+            try (PreparedStatement sel = connection.prepareStatement(select);
+                 ResultSet rs = sel.executeQuery()) {
+                while (rs.next()) {
+                    legacyRows.add(new Object[]{rs.getString("id"), rs.getObject("result"), rs.getObject("materials")});
+                }
+            }
+
+            try (PreparedStatement upd = connection.prepareStatement(update)) {
+                for (Object[] row : legacyRows) {
+                    // The text columns are the only copy of the items, so a row is left as-is unless every item decodes
+                    ItemStack result = decodeResult(row[1]);
+                    List<ItemStack> materials = decodeMaterialsStrict(row[2]);
+                    if (result == null || materials == null) {
+                        failed.add((String) row[0]);
+                        continue;
+                    }
+
+                    upd.setBytes(1, ItemStackCodec.encode(result));
+                    upd.setBytes(2, ItemStackCodec.encodeList(materials));
+                    upd.setString(3, (String) row[0]);
+                    upd.addBatch();
+                    migrated++;
+                }
+                if (migrated > 0) upd.executeBatch();
+            }
+
+            if (failed.isEmpty()) {
+                try (Statement st = connection.createStatement()) {
+                    st.execute("PRAGMA user_version = " + SCHEMA_BINARY_ITEMS + ";");
+                }
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException ignored) {}
+            plugin.getLogger().severe("[Database] Failed to migrate legacy recipe encoding; legacy rows will still load.");
+            e.printStackTrace();
+            return;
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException ignored) {}
+        }
+
+        if (migrated > 0) {
+            plugin.getLogger().info("[Database] Migrated " + migrated + " recipes to the binary item format.");
+        }
+        if (!failed.isEmpty()) {
+            plugin.getLogger().warning("[Database] Could not decode " + failed.size() + " legacy recipe(s), left in the old format"
+                    + " and retried on next startup: " + String.join(", ", failed));
+        }
+    }
+
+    private static List<ItemStack> decodeMaterialsStrict(Object raw) {
+        if (!(raw instanceof String legacy)) return decodeMaterials(raw);
+        if (legacy.isEmpty()) return new ArrayList<>();
+
+        List<ItemStack> out = new ArrayList<>();
+        for (String part : legacy.split("\\|")) {
+            ItemStack it = ItemStackCodec.decodeLegacy(part);
+            if (it == null) return null;
+            out.add(it);
+        }
+        return out;
+    }
+
+    private static ItemStack decodeResult(Object raw) {
+        if (raw instanceof byte[] bytes) return ItemStackCodec.decode(bytes);
+        if (raw instanceof String legacy) return ItemStackCodec.decodeLegacy(legacy);
+        return null;
+    }
+
+    private static List<ItemStack> decodeMaterials(Object raw) {
+        if (raw instanceof byte[] bytes) return ItemStackCodec.decodeList(bytes);
+        if (raw instanceof String legacy) return ItemStackCodec.decodeLegacyList(legacy);
+        return new ArrayList<>();
+    }
+
     public void saveRecipe(CustomRecipe recipe) {
         if (!isConnected() || recipe == null) return;
+        writeQueue.enqueueSave(recipe);
+    }
+
+    public void addRecipeUses(String id, int delta) {
+        if (!isConnected() || id == null || id.isEmpty() || delta == 0) return;
+        writeQueue.enqueueUsageDelta(id, delta);
+    }
+
+    public CompletableFuture<Boolean> claimRecipeUses(String id, int amount) {
+        if (!isConnected() || id == null || id.isEmpty() || amount <= 0) return CompletableFuture.completedFuture(true);
+        return writeQueue.enqueueClaim(id, amount);
+    }
+
+    public void saveRating(PlayerRating rating) {
+        if (!isConnected() || rating == null) return;
+        writeQueue.enqueueRating(rating);
+    }
+
+    // Returns null if any lookup failed, so callers can tell "no stored rating" apart from "couldn't read it"
+    public Map<UUID, PlayerRating> loadRatings(Collection<UUID> uuids) {
+        Map<UUID, PlayerRating> out = new HashMap<>();
+        if (uuids == null || uuids.isEmpty()) return out;
+        if (!isConnected()) return null;
+
+        List<UUID> all = new ArrayList<>(uuids);
+        synchronized (reader) {
+            for (int from = 0; from < all.size(); from += RATING_LOAD_CHUNK) {
+                List<UUID> chunk = all.subList(from, Math.min(all.size(), from + RATING_LOAD_CHUNK));
+                String sql = "SELECT uuid, rating, matches, wins FROM player_ratings WHERE uuid IN ("
+                        + String.join(",", Collections.nCopies(chunk.size(), "?")) + ");";
+
+                try (PreparedStatement ps = reader.raw().prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) ps.setString(i + 1, chunk.get(i).toString());
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            UUID uuid = UUID.fromString(rs.getString("uuid"));
+                            out.put(uuid, new PlayerRating(uuid, rs.getDouble("rating"), rs.getInt("matches"), rs.getInt("wins")));
+                        }
+                    }
+                } catch (SQLException | IllegalArgumentException e) {
+                    plugin.getLogger().severe("[Database] Failed to load player ratings.");
+                    e.printStackTrace();
+                    return null;
+                }
+            }
+        }
+        return out;
+    }
+
+    public void saveJournalState(UUID uuid, byte[] state) {
+        if (!isConnected() || uuid == null || state == null) return;
+        writeQueue.enqueueJournalState(uuid, state);
+    }
 
+    public void saveJournalReturn(UUID uuid, String location) {
+        if (!isConnected() || uuid == null || location == null) return;
+        writeQueue.enqueueJournalReturn(uuid, location);
+    }
+
+    public void deleteJournal(UUID uuid) {
+        if (!isConnected() || uuid == null) return;
+        writeQueue.enqueueJournalDelete(uuid);
+    }
+
+    // Moves a row out of the live journal without losing it, so it can be recovered by hand later
+    public void quarantineJournal(UUID uuid, String reason) {
+        if (!isConnected() || uuid == null || reason == null) return;
+        writeQueue.enqueueJournalQuarantine(uuid, reason);
+    }
+
+    public List<JournalEntry> loadJournal() {
+        List<JournalEntry> out = new ArrayList<>();
+        if (!isConnected()) return out;
+
+        synchronized (reader) {
+            try (ResultSet rs = reader.prepare("SELECT uuid, state, return_location, updated_at FROM state_journal;").executeQuery()) {
+                while (rs.next()) {
+                    try {
+                        out.add(new JournalEntry(UUID.fromString(rs.getString("uuid")), rs.getBytes("state"),
+                                rs.getString("return_location"), rs.getLong("updated_at")));
+                    } catch (IllegalArgumentException e) {
+                        plugin.getLogger().warning("[Database] Skipping journal row with invalid uuid: " + rs.getString("uuid"));
+                    }
+                }
+            } catch (SQLException e) {
+                plugin.getLogger().severe("[Database] Failed to load the event state journal.");
+                e.printStackTrace();
+            }
+        }
+        return out;
+    }
+
+    // Match results for players whose stored rating couldn't be loaded yet, kept until they are applied
+    public void saveRatingResult(String id, UUID uuid, double score, boolean won, long createdAt) {
+        if (!isConnected() || id == null || uuid == null) return;
+        writeQueue.enqueueRatingResult(id, uuid, score, won, createdAt);
+    }
+
+    public void deleteRatingResult(String id) {
+        if (!isConnected() || id == null) return;
+        writeQueue.enqueueRatingResultApplied(id);
+    }
+
+    public Map<UUID, List<RatingResultEntry>> loadRatingResults(Collection<UUID> uuids) {
+        Map<UUID, List<RatingResultEntry>> out = new HashMap<>();
+        if (uuids == null || uuids.isEmpty()) return out;
+        if (!isConnected()) return null;
+
+        List<UUID> all = new ArrayList<>(uuids);
+        synchronized (reader) {
+            for (int from = 0; from < all.size(); from += RATING_LOAD_CHUNK) {
+                List<UUID> chunk = all.subList(from, Math.min(all.size(), from + RATING_LOAD_CHUNK));
+                String sql = "SELECT id, uuid, score, won, created_at FROM rating_results WHERE uuid IN ("
+                        + String.join(",", Collections.nCopies(chunk.size(), "?")) + ") ORDER BY created_at;";
+
+                try (PreparedStatement ps = reader.raw().prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) ps.setString(i + 1, chunk.get(i).toString());
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            UUID uuid = UUID.fromString(rs.getString("uuid"));
+                            out.computeIfAbsent(uuid, u -> new ArrayList<>()).add(new RatingResultEntry(rs.getString("id"), uuid,
+                                    rs.getDouble("score"), rs.getInt("won") != 0, rs.getLong("created_at")));
+                        }
+                    }
+                } catch (SQLException | IllegalArgumentException e) {
+                    plugin.getLogger().severe("[Database] Failed to load pending rating results.");
+                    e.printStackTrace();
+                    return null;
+                }
+            }
+        }
+        return out;
+    }
+
+    public void saveHeldDelivery(String id, UUID owner, byte[] items) {
+        if (!isConnected() || id == null || owner == null || items == null) return;
+        writeQueue.enqueueDelivery(id, owner, items);
+    }
+
+    public void deleteHeldDelivery(String id) {
+        if (!isConnected() || id == null) return;
+        writeQueue.enqueueDeliveryDone(id);
+    }
+
+    public List<HeldDeliveryEntry> loadHeldDeliveries() {
+        List<HeldDeliveryEntry> out = new ArrayList<>();
+        if (!isConnected()) return out;
+
+        synchronized (reader) {
+            try (ResultSet rs = reader.prepare("SELECT id, uuid, items FROM held_deliveries ORDER BY created_at;").executeQuery()) {
+                while (rs.next()) {
+                    try {
+                        out.add(new HeldDeliveryEntry(rs.getString("id"), UUID.fromString(rs.getString("uuid")), rs.getBytes("items")));
+                    } catch (IllegalArgumentException e) {
+                        plugin.getLogger().warning("[Database] Skipping held delivery with invalid uuid: " + rs.getString("id"));
+                    }
+                }
+            } catch (SQLException e) {
+                plugin.getLogger().severe("[Database] Failed to load held deliveries.");
+                e.printStackTrace();
+            }
+        }
+        return out;
+    }
+
+    void writeBatch(List<WriteBehindQueue.PendingWrite> batch, List<WriteBehindQueue.PendingClaim> claims,
+                    List<PlayerRating> ratings, List<WriteBehindQueue.JournalWrite> journal,
+                    List<WriteBehindQueue.HeldDelivery> deliveries, List<WriteBehindQueue.RatingResult> ratingResults) throws SQLException {
+        if (!isConnected() || (batch.isEmpty() && claims.isEmpty() && ratings.isEmpty() && journal.isEmpty() && deliveries.isEmpty()
+                && ratingResults.isEmpty())) return;
+
+        Connection connection = writer.raw();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            boolean hasUpserts = false;
+            boolean hasDeletes = false;
+            boolean hasUsage = false;
+
+            for (WriteBehindQueue.PendingWrite write : batch) {
+                if (write.isDelete()) {
+                    PreparedStatement ps = writer.prepare(SQL_DELETE);
+                    ps.setString(1, write.id);
+                    ps.addBatch();
+                    hasDeletes = true;
+                } else if (write.isUsageOnly()) {
+                    if (write.usesDelta == 0) continue;
+                    PreparedStatement ps = writer.prepare(SQL_ADD_USES);
+                    ps.setInt(1, write.usesDelta);
+                    ps.setString(2, write.id);
+                    ps.addBatch();
+                    hasUsage = true;
+                } else {
+                    bindUpsert(writer.prepare(SQL_UPSERT), write.recipe);
+                    hasUpserts = true;
+                }
+            }
+
+            // a save or delete in the same batch already accounts for the live counter
+            Set<String> covered = new HashSet<>();
+            for (WriteBehindQueue.PendingWrite write : batch) {
+                if (!write.isUsageOnly()) covered.add(write.id);
+            }
+
+            List<WriteBehindQueue.PendingClaim> conditional = new ArrayList<>();
+            for (WriteBehindQueue.PendingClaim claim : claims) {
+                if (covered.contains(claim.id)) continue;
+                PreparedStatement ps = writer.prepare(SQL_CLAIM_USES);
+                ps.setInt(1, claim.amount);
+                ps.setString(2, claim.id);
+                ps.setInt(3, claim.amount);
+                ps.addBatch();
+                conditional.add(claim);
+            }
+
+            long now = System.currentTimeMillis();
+            for (PlayerRating rating : ratings) {
+                PreparedStatement ps = writer.prepare(SQL_UPSERT_RATING);
+                ps.setString(1, rating.uuid().toString());
+                ps.setDouble(2, rating.rating());
+                ps.setInt(3, rating.matches());
+                ps.setInt(4, rating.wins());
+                ps.setLong(5, now);
+                ps.addBatch();
+            }
+
+            boolean hasJournalStates = false;
+            boolean hasJournalReturns = false;
+            boolean hasJournalDeletes = false;
+            boolean hasQuarantines = false;
+            for (WriteBehindQueue.JournalWrite write : journal) {
+                if (write.quarantineReason != null) {
+                    PreparedStatement ps = writer.prepare(SQL_QUARANTINE_JOURNAL);
+                    ps.setString(1, write.quarantineReason);
+                    ps.setLong(2, now);
+                    ps.setString(3, write.uuid.toString());
+                    ps.addBatch();
+
+                    ps = writer.prepare(SQL_DELETE_QUARANTINED);
+                    ps.setString(1, write.uuid.toString());
+                    ps.addBatch();
+                    hasQuarantines = true;
+                }
+
+                if (write.isQuarantineOnly()) {
+                    continue;
+                } else if (write.delete) {
+                    PreparedStatement ps = writer.prepare(SQL_DELETE_JOURNAL);
+                    ps.setString(1, write.uuid.toString());
+                    ps.addBatch();
+                    hasJournalDeletes = true;
+                } else if (write.state != null) {
+                    PreparedStatement ps = writer.prepare(SQL_UPSERT_JOURNAL);
+                    ps.setString(1, write.uuid.toString());
+                    ps.setBytes(2, write.state);
+                    ps.setString(3, write.returnLocation);
+                    ps.setLong(4, now);
+                    ps.addBatch();
+                    hasJournalStates = true;
+                } else {
+                    PreparedStatement ps = writer.prepare(SQL_JOURNAL_RETURN);
+                    ps.setString(1, write.returnLocation);
+                    ps.setLong(2, now);
+                    ps.setString(3, write.uuid.toString());
+                    ps.addBatch();
+                    hasJournalReturns = true;
+                }
+            }
+
+            boolean hasDeliveries = false;
+            boolean hasDeliveryDeletes = false;
+            for (WriteBehindQueue.HeldDelivery delivery : deliveries) {
+                if (delivery.items == null) {
+                    PreparedStatement ps = writer.prepare(SQL_DELETE_DELIVERY);
+                    ps.setString(1, delivery.id);
+                    ps.addBatch();
+                    hasDeliveryDeletes = true;
+                } else {
+                    PreparedStatement ps = writer.prepare(SQL_INSERT_DELIVERY);
+                    ps.setString(1, delivery.id);
+                    ps.setString(2, delivery.owner.toString());
+                    ps.setBytes(3, delivery.items);
+                    ps.setLong(4, now);
+                    ps.addBatch();
+                    hasDeliveries = true;
+                }
+            }
+
+            boolean hasResults = false;
+            boolean hasResultDeletes = false;
+            for (WriteBehindQueue.RatingResult result : ratingResults) {
+                if (result.uuid == null) {
+                    PreparedStatement ps = writer.prepare(SQL_DELETE_RATING_RESULT);
+                    ps.setString(1, result.id);
+                    ps.addBatch();
+                    hasResultDeletes = true;
+                } else {
+                    PreparedStatement ps = writer.prepare(SQL_INSERT_RATING_RESULT);
+                    ps.setString(1, result.id);
+                    ps.setString(2, result.uuid.toString());
+                    ps.setDouble(3, result.score);
+                    ps.setInt(4, result.won ? 1 : 0);
+                    ps.setLong(5, result.createdAt);
+                    ps.addBatch();
+                    hasResults = true;
+                }
+            }
+
+            int[] claimed = conditional.isEmpty() ? new int[0] : writer.prepare(SQL_CLAIM_USES).executeBatch();
+            if (hasUpserts) writer.prepare(SQL_UPSERT).executeBatch();
+            if (hasDeletes) writer.prepare(SQL_DELETE).executeBatch();
+            if (hasUsage) writer.prepare(SQL_ADD_USES).executeBatch();
+            if (!ratings.isEmpty()) writer.prepare(SQL_UPSERT_RATING).executeBatch();
+            if (hasQuarantines) {
+                writer.prepare(SQL_QUARANTINE_JOURNAL).executeBatch();
+                writer.prepare(SQL_DELETE_QUARANTINED).executeBatch();
+            }
+            if (hasJournalStates) writer.prepare(SQL_UPSERT_JOURNAL).executeBatch();
+            if (hasJournalReturns) writer.prepare(SQL_JOURNAL_RETURN).executeBatch();
+            if (hasJournalDeletes) writer.prepare(SQL_DELETE_JOURNAL).executeBatch();
+            if (hasDeliveries) writer.prepare(SQL_INSERT_DELIVERY).executeBatch();
+            if (hasDeliveryDeletes) writer.prepare(SQL_DELETE_DELIVERY).executeBatch();
+            if (hasResults) writer.prepare(SQL_INSERT_RATING_RESULT).executeBatch();
+            if (hasResultDeletes) writer.prepare(SQL_DELETE_RATING_RESULT).executeBatch();
+            connection.commit();
+
+            for (WriteBehindQueue.PendingClaim claim : claims) {
+                if (covered.contains(claim.id)) claim.future.complete(true);
+            }
+            for (int i = 0; i < conditional.size(); i++) {
+                conditional.get(i).future.complete(i < claimed.length && claimed[i] != 0);
+            }
+        } catch (SQLException e) {
+            writer.clearBatches();
+            try {
+                connection.rollback();
+            } catch (SQLException ignored) {}
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void bindUpsert(PreparedStatement ps, CustomRecipe recipe) throws SQLException {
         String id = recipe.getId();
         String name = recipe.getName() == null ? "Recipe" : recipe.getName();
 
-        String result = recipe.serializeResult();
-        String materials = recipe.serializeMaterials();
+        byte[] result = recipe.serializeResult();
+        byte[] materials = recipe.serializeMaterials();
 
         int maxUses = recipe.getMaxCrafts();
         int uses = recipe.getCraftsUsed();
 
-        String sql = """
-            INSERT INTO recipes (id, name, result, materials, max_uses, uses)
-            VALUES (?, ?, ?, ?, ?, ?)
-            ON CONFLICT(id) DO UPDATE SET
-              name=excluded.name,
-              result=excluded.result,
-              materials=excluded.materials,
-              max_uses=excluded.max_uses,
-              uses=excluded.uses;
-        """;
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, id);
-            ps.setString(2, name);
-            ps.setString(3, result);
-            ps.setString(4, materials);
-            ps.setInt(5, maxUses);
-            ps.setInt(6, uses);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            plugin.getLogger().severe("[Database] Failed to save recipe: " + id);
-            e.printStackTrace();
-        }
+        ps.setString(1, id);
+        ps.setString(2, name);
+        ps.setBytes(3, result);
+        ps.setBytes(4, materials);
+        ps.setInt(5, maxUses);
+        ps.setInt(6, uses);
+        ps.addBatch();
     }
 
     public List<CustomRecipe> loadAllRecipes() {
         List<CustomRecipe> out = new ArrayList<>();
         if (!isConnected()) return out;
 
-        String sql = "SELECT id, name, result, materials, max_uses, uses FROM recipes;";
+        synchronized (reader) {
+            try (ResultSet rs = reader.prepare(SQL_LOAD_ALL).executeQuery()) {
 
-        try (PreparedStatement ps = connection.prepareStatement(sql);
-             ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String id = rs.getString("id");
+                    String name = rs.getString("name");
+                    Object resultRaw = rs.getObject("result");
+                    Object matsRaw = rs.getObject("materials");
 
-            while (rs.next()) {
-                String id = rs.getString("id");
-                String name = rs.getString("name");
-                String resultStr = rs.getString("result");
-                String matsStr = rs.getString("materials");
+                    int maxUses = rs.getInt("max_uses");
+                    int uses = rs.getInt("uses");
 
-                int maxUses = rs.getInt("max_uses");
-                int uses = rs.getInt("uses");
+                    if (resultRaw instanceof byte[] resultBytes && matsRaw instanceof byte[] matsBytes) {
+                        out.add(CustomRecipe.fromEncoded(id, name, resultBytes, matsBytes, maxUses, uses));
+                        continue;
+                    }
 
-                ItemStack result = CustomRecipe.deserializeItemStack(resultStr);
-                List<ItemStack> materials = CustomRecipe.deserializeMaterials(matsStr);
+                    ItemStack result = decodeResult(resultRaw);
+                    List<ItemStack> materials = decodeMaterials(matsRaw);
 
-                out.add(new CustomRecipe(id, name, result, materials, maxUses, uses));
-            }
+                    out.add(new CustomRecipe(id, name, result, materials, maxUses, uses));
+                }
 
-        } catch (SQLException e) {
-            plugin.getLogger().severe("[Database] Failed to load recipes.");
-            e.printStackTrace();
+            } catch (SQLException e) {
+                plugin.getLogger().severe("[Database] Failed to load recipes.");
+                e.printStackTrace();
+            }
         }
 
         return out;
@@ -155,34 +722,36 @@ public class DatabaseManager {
 
     public void deleteRecipe(String id) {
         if (!isConnected() || id == null || id.isEmpty()) return;
-
-        String sql = "DELETE FROM recipes WHERE id = ?;";
-
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, id);
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            plugin.getLogger().severe("[Database] Failed to delete recipe: " + id);
-            e.printStackTrace();
-        }
+        writeQueue.enqueueDelete(id);
     }
 
     public void close() {
+        if (writeQueue != null) {
+            writeQueue.shutdown();
+            writeQueue = null;
+        }
+
         connected = false;
 
-        if (connection != null) {
-            try {
-                connection.close();
+        if (reader != null) reader.close();
+        reader = null;
+
+        if (writer != null) {
+            try (Statement st = writer.raw().createStatement()) {
+                st.execute("PRAGMA wal_checkpoint(TRUNCATE);");
             } catch (SQLException ignored) {}
+            writer.close();
         }
-        connection = null;
+        writer = null;
     }
 
     public boolean isConnected() {
-        try {
-            return connected && connection != null && !connection.isClosed();
-        } catch (SQLException e) {
-            return false;
-        }
+        return connected && writer != null && writer.isOpen();
     }
-}
\ No newline at end of file
+
+    public record JournalEntry(UUID uuid, byte[] state, String returnLocation, long updatedAt) {}
+
+    public record HeldDeliveryEntry(String id, UUID owner, byte[] items) {}
+
+    public record RatingResultEntry(String id, UUID uuid, double score, boolean won, long createdAt) {}
+}
@@ -0,0 +1,88 @@
+package org.tekkabyte.eventPlugin.database;
+
+import java.sql.*;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ManagedConnection implements AutoCloseable {
+
+    private final String name;
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+    private ManagedConnection(String name, Connection connection) {
+        this.name = name;
+        this.connection = connection;
+    }
+
+    public static ManagedConnection openWriter(String url, String synchronous, int busyTimeoutMs) throws SQLException {
+        Connection c = DriverManager.getConnection(url);
+        try (Statement st = c.createStatement()) {
+            st.execute("PRAGMA journal_mode = WAL;");
+            st.execute("PRAGMA synchronous = " + synchronous + ";");
+            st.execute("PRAGMA foreign_keys = ON;");
+            st.execute("PRAGMA temp_store = MEMORY;");
+            st.execute("PRAGMA cache_size = -8000;");
+            st.execute("PRAGMA busy_timeout = " + busyTimeoutMs + ";");
+        }
+        return new ManagedConnection("writer", c);
+    }
+
+    public static ManagedConnection openReader(String url, int busyTimeoutMs) throws SQLException {
+        Connection c = DriverManager.getConnection(url);
+        try (Statement st = c.createStatement()) {
+            st.execute("PRAGMA query_only = ON;");
+            st.execute("PRAGMA temp_store = MEMORY;");
+            st.execute("PRAGMA cache_size = -8000;");
+            st.execute("PRAGMA busy_timeout = " + busyTimeoutMs + ";");
+        }
+        return new ManagedConnection("reader", c);
+    }
+
+    public synchronized PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement ps = statements.get(sql);
+        if (ps == null || ps.isClosed()) {
+            ps = connection.prepareStatement(sql);
+            statements.put(sql, ps);
+        }
+        return ps;
+    }
+
+    public synchronized void clearBatches() {
+        for (PreparedStatement ps : statements.values()) {
+            try {
+                ps.clearBatch();
+            } catch (SQLException ignored) {}
+        }
+    }
+
+    public Connection raw() {
+        return connection;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isOpen() {
+        try {
+            return !connection.isClosed();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        for (PreparedStatement ps : statements.values()) {
+            try {
+                ps.close();
+            } catch (SQLException ignored) {}
+        }
+        statements.clear();
+
+        try {
+            connection.close();
+        } catch (SQLException ignored) {}
+    }
+}
@@ -0,0 +1,417 @@
+package org.tekkabyte.eventPlugin.database;
+
+import org.tekkabyte.eventPlugin.EventPlugin;
+import org.tekkabyte.eventPlugin.models.CustomRecipe;
+import org.tekkabyte.eventPlugin.models.PlayerRating;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class WriteBehindQueue {
+
+    private final EventPlugin plugin;
+    private final DatabaseManager databaseManager;
+    private final long flushIntervalMs;
+
+    private final Object lock = new Object();
+    private Map<String, PendingWrite> pending = new LinkedHashMap<>();
+    private List<PendingClaim> claims = new ArrayList<>();
+    private Map<UUID, PlayerRating> ratings = new LinkedHashMap<>();
+    private Map<UUID, JournalWrite> journal = new LinkedHashMap<>();
+    private Map<String, HeldDelivery> deliveries = new LinkedHashMap<>();
+    private Map<String, RatingResult> ratingResults = new LinkedHashMap<>();
+
+    private static final long MAX_BACKOFF_MS = 30_000L;
+    private static final int SHUTDOWN_ATTEMPTS = 3;
+
+    private volatile ScheduledExecutorService executor;
+
+    private long backoffMs;
+    private long retryAtNanos;
+
+    public WriteBehindQueue(EventPlugin plugin, DatabaseManager databaseManager, long flushIntervalMs) {
+        this.plugin = plugin;
+        this.databaseManager = databaseManager;
+        this.flushIntervalMs = Math.max(50L, flushIntervalMs);
+    }
+
+    public void start() {
+        if (executor != null) return;
+
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "EventPlugin-DB-Writer");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void enqueueSave(CustomRecipe recipe) {
+        if (recipe == null || recipe.getId() == null) return;
+        synchronized (lock) {
+            pending.put(recipe.getId(), PendingWrite.save(recipe));
+        }
+    }
+
+    public void enqueueDelete(String id) {
+        if (id == null || id.isEmpty()) return;
+        synchronized (lock) {
+            pending.put(id, PendingWrite.delete(id));
+        }
+    }
+
+    public void enqueueUsageDelta(String id, int delta) {
+        if (id == null || id.isEmpty() || delta == 0) return;
+        synchronized (lock) {
+            PendingWrite current = pending.get(id);
+            if (current == null) {
+                pending.put(id, PendingWrite.usage(id, delta));
+            } else if (current.isUsageOnly()) {
+                current.usesDelta += delta;
+            }
+            // a pending save already writes the live counter, and a pending delete drops the row
+        }
+    }
+
+    public void enqueueRating(PlayerRating rating) {
+        if (rating == null || rating.uuid() == null) return;
+        synchronized (lock) {
+            ratings.put(rating.uuid(), rating);
+        }
+    }
+
+    // Journal states are flushed right away so a crash shortly after joining still leaves a row behind
+    public void enqueueJournalState(UUID uuid, byte[] state) {
+        synchronized (lock) {
+            putJournal(new JournalWrite(uuid, state, null, false));
+        }
+        flushSoon();
+    }
+
+    public void enqueueJournalReturn(UUID uuid, String location) {
+        synchronized (lock) {
+            JournalWrite current = journal.get(uuid);
+            if (current != null && !current.delete) current.returnLocation = location;
+            else putJournal(new JournalWrite(uuid, null, location, false));
+        }
+        flushSoon();
+    }
+
+    public void enqueueJournalDelete(UUID uuid) {
+        synchronized (lock) {
+            putJournal(new JournalWrite(uuid, null, null, true));
+        }
+    }
+
+    public void enqueueJournalQuarantine(UUID uuid, String reason) {
+        synchronized (lock) {
+            JournalWrite current = journal.get(uuid);
+            if (current != null) current.quarantineReason = reason;
+            else journal.put(uuid, JournalWrite.quarantine(uuid, reason));
+        }
+        flushSoon();
+    }
+
+    // A queued quarantine must still run before whatever replaces the row
+    private void putJournal(JournalWrite write) {
+        JournalWrite current = journal.put(write.uuid, write);
+        if (current != null && write.quarantineReason == null) write.quarantineReason = current.quarantineReason;
+    }
+
+    public void enqueueRatingResult(String id, UUID uuid, double score, boolean won, long createdAt) {
+        synchronized (lock) {
+            ratingResults.put(id, new RatingResult(id, uuid, score, won, createdAt));
+        }
+    }
+
+    public void enqueueRatingResultApplied(String id) {
+        synchronized (lock) {
+            ratingResults.put(id, new RatingResult(id, null, 0, false, 0));
+        }
+    }
+
+    public void enqueueDelivery(String id, UUID owner, byte[] items) {
+        synchronized (lock) {
+            deliveries.put(id, new HeldDelivery(id, owner, items));
+        }
+        flushSoon();
+    }
+
+    public void enqueueDeliveryDone(String id) {
+        synchronized (lock) {
+            deliveries.put(id, new HeldDelivery(id, null, null));
+        }
+    }
+
+    public CompletableFuture<Boolean> enqueueClaim(String id, int amount) {
+        PendingClaim claim = new PendingClaim(id, amount);
+        synchronized (lock) {
+            claims.add(claim);
+        }
+        flushSoon();
+        return claim.future;
+    }
+
+    private void flushSoon() {
+        ScheduledExecutorService ex = executor;
+        try {
+            if (ex != null && !ex.isShutdown()) ex.execute(this::flush);
+            else flushUnlessFlushing();
+        } catch (RejectedExecutionException e) {
+            flushUnlessFlushing();
+        }
+    }
+
+    // Writes queued from a callback inside a flush are left for the shutdown drain instead of nesting a transaction
+    private void flushUnlessFlushing() {
+        if (!Thread.holdsLock(this)) flush();
+    }
+
+    public int pendingCount() {
+        synchronized (lock) {
+            return pending.size() + claims.size() + ratings.size() + journal.size() + deliveries.size() + ratingResults.size();
+        }
+    }
+
+    private synchronized void flush() {
+        if (backoffMs > 0 && System.nanoTime() < retryAtNanos) return;
+        writePending();
+    }
+
+    private synchronized boolean writePending() {
+        List<PendingWrite> batch;
+        List<PendingClaim> claimBatch;
+        List<PlayerRating> ratingBatch;
+        List<JournalWrite> journalBatch;
+        List<HeldDelivery> deliveryBatch;
+        List<RatingResult> resultBatch;
+        synchronized (lock) {
+            if (pending.isEmpty() && claims.isEmpty() && ratings.isEmpty() && journal.isEmpty() && deliveries.isEmpty()
+                    && ratingResults.isEmpty()) return true;
+            batch = new ArrayList<>(pending.values());
+            claimBatch = claims;
+            ratingBatch = new ArrayList<>(ratings.values());
+            journalBatch = new ArrayList<>(journal.values());
+            deliveryBatch = new ArrayList<>(deliveries.values());
+            resultBatch = new ArrayList<>(ratingResults.values());
+            pending = new LinkedHashMap<>();
+            claims = new ArrayList<>();
+            ratings = new LinkedHashMap<>();
+            journal = new LinkedHashMap<>();
+            deliveries = new LinkedHashMap<>();
+            ratingResults = new LinkedHashMap<>();
+        }
+
+        try {
+            databaseManager.writeBatch(batch, claimBatch, ratingBatch, journalBatch, deliveryBatch, resultBatch);
+            backoffMs = 0;
+            return true;
+        } catch (Throwable t) {
+            requeue(batch, ratingBatch, journalBatch, deliveryBatch, resultBatch);
+            backoffMs = backoffMs == 0 ? flushIntervalMs : Math.min(MAX_BACKOFF_MS, backoffMs * 2);
+            retryAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs);
+
+            plugin.getLogger().severe("[Database] Write-behind flush failed ("
+                    + (batch.size() + ratingBatch.size() + journalBatch.size() + deliveryBatch.size() + resultBatch.size()) + " writes re-queued, retrying in " + backoffMs + "ms): " + t);
+            if (backoffMs == flushIntervalMs) t.printStackTrace();
+            return false;
+        } finally {
+            // claims are never retried: the crafter is waiting on them and gets a refund instead
+            for (PendingClaim claim : claimBatch) claim.future.complete(false);
+        }
+    }
+
+    // Puts a failed batch back underneath anything queued since, so the newer write still wins
+    private void requeue(List<PendingWrite> batch, List<PlayerRating> ratingBatch, List<JournalWrite> journalBatch,
+                         List<HeldDelivery> deliveryBatch, List<RatingResult> resultBatch) {
+        synchronized (lock) {
+            Map<String, PendingWrite> mergedWrites = new LinkedHashMap<>();
+            for (PendingWrite failed : batch) {
+                PendingWrite newer = pending.get(failed.id);
+                if (newer == null) {
+                    mergedWrites.put(failed.id, failed);
+                } else if (newer.isUsageOnly()) {
+                    // a failed save still writes the live counter and a failed delete still drops the row
+                    if (failed.isUsageOnly()) newer.usesDelta += failed.usesDelta;
+                    else mergedWrites.put(failed.id, failed);
+                }
+            }
+            for (Map.Entry<String, PendingWrite> e : pending.entrySet()) mergedWrites.putIfAbsent(e.getKey(), e.getValue());
+            pending = mergedWrites;
+
+            Map<UUID, PlayerRating> mergedRatings = new LinkedHashMap<>();
+            for (PlayerRating failed : ratingBatch) mergedRatings.put(failed.uuid(), failed);
+            mergedRatings.putAll(ratings);
+            ratings = mergedRatings;
+
+            Map<UUID, JournalWrite> mergedJournal = new LinkedHashMap<>();
+            for (JournalWrite failed : journalBatch) {
+                JournalWrite newer = journal.get(failed.uuid);
+                if (newer != null && newer.quarantineReason == null) newer.quarantineReason = failed.quarantineReason;
+                if (newer == null) {
+                    mergedJournal.put(failed.uuid, failed);
+                } else if (newer.state == null && !newer.delete) {
+                    // a return-location update can't replace the failed state row or delete it was meant to follow
+                    if (failed.delete) {
+                        mergedJournal.put(failed.uuid, failed);
+                    } else if (failed.state != null) {
+                        failed.returnLocation = newer.returnLocation;
+                        failed.quarantineReason = newer.quarantineReason;
+                        mergedJournal.put(failed.uuid, failed);
+                    }
+                }
+            }
+            for (Map.Entry<UUID, JournalWrite> e : journal.entrySet()) mergedJournal.putIfAbsent(e.getKey(), e.getValue());
+            journal = mergedJournal;
+
+            Map<String, HeldDelivery> mergedDeliveries = new LinkedHashMap<>();
+            for (HeldDelivery failed : deliveryBatch) mergedDeliveries.put(failed.id, failed);
+            mergedDeliveries.putAll(deliveries);
+            deliveries = mergedDeliveries;
+
+            Map<String, RatingResult> mergedResults = new LinkedHashMap<>();
+            for (RatingResult failed : resultBatch) mergedResults.put(failed.id, failed);
+            mergedResults.putAll(ratingResults);
+            ratingResults = mergedResults;
+        }
+    }
+
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    plugin.getLogger().warning("[Database] Writer thread did not stop in time; draining on shutdown thread.");
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            executor = null;
+        }
+
+        // writes queued while flushing (e.g. by claim callbacks) are picked up by the next pass
+        for (int attempt = 1; pendingCount() > 0; attempt++) {
+            if (writePending()) continue;
+            if (attempt >= SHUTDOWN_ATTEMPTS) {
+                plugin.getLogger().severe("[Database] Giving up on " + pendingCount() + " writes after " + attempt + " attempts at shutdown.");
+                return;
+            }
+            try {
+                Thread.sleep(Math.min(1000L, backoffMs));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    static final class PendingWrite {
+        final String id;
+        final CustomRecipe recipe;
+        final boolean delete;
+        int usesDelta;
+
+        private PendingWrite(String id, CustomRecipe recipe, boolean delete, int usesDelta) {
+            this.id = id;
+            this.recipe = recipe;
+            this.delete = delete;
+            this.usesDelta = usesDelta;
+        }
+
+        static PendingWrite save(CustomRecipe recipe) {
+            return new PendingWrite(recipe.getId(), recipe, false, 0);
+        }
+
+        static PendingWrite delete(String id) {
+            return new PendingWrite(id, null, true, 0);
+        }
+
+        static PendingWrite usage(String id, int delta) {
+            return new PendingWrite(id, null, false, delta);
+        }
+
+        boolean isDelete() {
+            return delete;
+        }
+
+        boolean isUsageOnly() {
+            return !delete && recipe == null;
+        }
+    }
+
+    static final class JournalWrite {
+        final UUID uuid;
+        final byte[] state;
+        final boolean delete;
+        String returnLocation;
+        String quarantineReason;
+
+        private JournalWrite(UUID uuid, byte[] state, String returnLocation, boolean delete) {
+            this.uuid = uuid;
+            this.state = state;
+            this.returnLocation = returnLocation;
+            this.delete = delete;
+        }
+
+        static JournalWrite quarantine(UUID uuid, String reason) {
+            JournalWrite write = new JournalWrite(uuid, null, null, false);
+            write.quarantineReason = reason;
+            return write;
+        }
+
+        boolean isQuarantineOnly() {
+            return quarantineReason != null && state == null && returnLocation == null && !delete;
+        }
+    }
+
+    // items == null marks a delivery that was handed over and can be deleted
+    static final class HeldDelivery {
+        final String id;
+        final UUID owner;
+        final byte[] items;
+
+        private HeldDelivery(String id, UUID owner, byte[] items) {
+            this.id = id;
+            this.owner = owner;
+            this.items = items;
+        }
+    }
+
+    // uuid == null marks a result that was applied to the stored rating and can be deleted
+    static final class RatingResult {
+        final String id;
+        final UUID uuid;
+        final double score;
+        final boolean won;
+        final long createdAt;
+
+        private RatingResult(String id, UUID uuid, double score, boolean won, long createdAt) {
+            this.id = id;
+            this.uuid = uuid;
+            this.score = score;
+            this.won = won;
+            this.createdAt = createdAt;
+        }
+    }
+
+    static final class PendingClaim {
+        final String id;
+        final int amount;
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        private PendingClaim(String id, int amount) {
+            this.id = id;
+            this.amount = amount;
+        }
+    }
+}
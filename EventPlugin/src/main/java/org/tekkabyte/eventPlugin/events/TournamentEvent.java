@@ -1,35 +1,38 @@
 package org.tekkabyte.eventPlugin.events;
 
 import org.bukkit.*;
+import org.bukkit.block.Block;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.tekkabyte.eventPlugin.EventPlugin;
+import org.tekkabyte.eventPlugin.tournament.Arena;
+import org.tekkabyte.eventPlugin.tournament.ArenaMatch;
+import org.tekkabyte.eventPlugin.tournament.Bracket;
+import org.tekkabyte.eventPlugin.tournament.BracketMatch;
+import org.tekkabyte.eventPlugin.tournament.Entrant;
 import org.tekkabyte.eventPlugin.utils.TeleportUtil;
+import org.tekkabyte.eventPlugin.world.ArenaSnapshot;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class TournamentEvent extends BaseEvent {
 
-    public enum Mode {
-        ONE_V_ONE(2),
-        TWO_V_TWO(4);
-        public final int playersPerMatch;
-        Mode(int n) { this.playersPerMatch = n; }
-    }
+    public static final int MAX_TEAM_SIZE = 16;
 
     private enum Phase { CREATED, RUNNING }
     private Phase phase = Phase.CREATED;
 
-    private Mode mode = Mode.ONE_V_ONE;
+    private int teamSize = 1;
 
     private final Set<UUID> participants = new HashSet<>();
-    private final Set<UUID> currentMatch = new HashSet<>();
-    private final Set<UUID> inMatchAlive = new HashSet<>();
-    private final Map<UUID, Integer> teamMap = new HashMap<>();
-    private final Deque<UUID> queue = new ArrayDeque<>();
+    private final Map<UUID, ArenaMatch> matchByPlayer = new HashMap<>();
+    private final List<Arena> arenas = new ArrayList<>();
+    private Bracket bracket;
 
     private final Map<UUID, Location> returnLocations = new HashMap<>();
 
@@ -39,8 +42,28 @@ public class TournamentEvent extends BaseEvent {
         super(plugin);
     }
 
-    public void setMode(Mode mode) {
-        this.mode = (mode == null) ? Mode.ONE_V_ONE : mode;
+    public void setTeamSize(int teamSize) {
+        this.teamSize = Math.max(1, Math.min(MAX_TEAM_SIZE, teamSize));
+    }
+
+    public static int parseTeamSize(String mode) {
+        if (mode == null) return 0;
+        String[] parts = mode.toLowerCase(Locale.ROOT).split("v", -1);
+        if (parts.length != 2 || !parts[0].equals(parts[1])) return 0;
+        try {
+            int n = Integer.parseInt(parts[0]);
+            return n >= 1 && n <= MAX_TEAM_SIZE ? n : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private String getModeLabel() {
+        return teamSize + "v" + teamSize;
+    }
+
+    public Bracket getBracket() {
+        return bracket;
     }
 
     @Override
@@ -90,10 +113,13 @@ public class TournamentEvent extends BaseEvent {
 
         eventWorld.setPVP(false);
 
+        loadArenas(arenaSize);
+
         active = true;
         phase = Phase.CREATED;
 
-        plugin.getLogger().info("Tournament created: world=" + eventWorld.getName() + " (configured=" + usingConfiguredWorld + ") mode=" + mode);
+        plugin.getLogger().info("Tournament created: world=" + eventWorld.getName() + " (configured=" + usingConfiguredWorld + ") mode=" + getModeLabel()
+                + " arenas=" + arenas.size());
     }
 
     @Override
@@ -106,26 +132,43 @@ public class TournamentEvent extends BaseEvent {
         participants.clear();
         participants.addAll(plugin.getEventManager().getEventPlayerUUIDs());
 
-        if (participants.size() < mode.playersPerMatch) {
+        if (participants.size() < teamSize * 2) {
             Bukkit.broadcastMessage("§c[Tournament] Not enough players to start (" +
-                    participants.size() + "/" + mode.playersPerMatch + ").");
+                    participants.size() + "/" + (teamSize * 2) + ").");
             return;
         }
 
-        queue.clear();
-        List<UUID> shuffled = new ArrayList<>(participants);
-        Collections.shuffle(shuffled);
-        queue.addAll(shuffled);
+        boolean byRating = !"random".equalsIgnoreCase(plugin.getConfig().getString("tournament.bracket.seeding", "rating"));
+        List<UUID> seeded;
+        if (byRating) {
+            seeded = plugin.getRatingManager().rank(participants);
+        } else {
+            seeded = new ArrayList<>(participants);
+            Collections.shuffle(seeded);
+        }
+
+        List<List<UUID>> teams = formTeams(seeded);
+        if (byRating && teamSize > 1) {
+            Map<List<UUID>, Double> strength = new HashMap<>();
+            for (List<UUID> team : teams) strength.put(team, plugin.getRatingManager().averageRating(team));
+            teams.sort((a, b) -> Double.compare(strength.get(b), strength.get(a)));
+        }
+
+        bracket = new Bracket(readFormat(), teams,
+                plugin.getConfig().getBoolean("tournament.bracket.grand-final-reset", true));
 
         phase = Phase.RUNNING;
 
         Bukkit.broadcastMessage(plugin.getMessage("event-started").replace("{type}",
-                mode == Mode.ONE_V_ONE ? "Tournament (1v1)" : "Tournament (2v2)"));
+                "Tournament (" + getModeLabel() + ")"));
+        Bukkit.broadcastMessage("§e[Tournament] " + bracket.getEntrants().size() + " teams, "
+                + (bracket.getFormat() == Bracket.Format.DOUBLE ? "double" : "single") + " elimination"
+                + (bracket.getByes() > 0 ? ", " + bracket.getByes() + " byes" : "") + ".");
 
         teleportAllToStartLocation();
 
         setAllWaitingSpectator();
-        startNextMatch();
+        fillArenas();
     }
 
     @Override
@@ -151,14 +194,21 @@ public class TournamentEvent extends BaseEvent {
         String worldName = eventWorld.getName();
 
         participants.clear();
-        queue.clear();
-        currentMatch.clear();
-        inMatchAlive.clear();
-        teamMap.clear();
+        matchByPlayer.clear();
+        bracket = null;
         returnLocations.clear();
 
-        boolean deleteWorld = plugin.getConfig().getBoolean("tournament.delete-world-on-end", true);
-        if (!usingConfiguredWorld && deleteWorld) {
+        boolean deleteWorld = !usingConfiguredWorld
+                && plugin.getConfig().getBoolean("tournament.delete-world-on-end", true);
+        for (Arena arena : arenas) {
+            arena.setMatch(null);
+            if (arena.getSnapshot() == null) continue;
+            if (deleteWorld) arena.getSnapshot().cancel();
+            else resetArena(arena);
+        }
+        arenas.clear();
+
+        if (deleteWorld) {
             plugin.getWorldManager().deleteWorld(worldName);
         }
 
@@ -195,15 +245,13 @@ public class TournamentEvent extends BaseEvent {
         UUID uuid = player.getUniqueId();
 
         participants.remove(uuid);
-        queue.remove(uuid);
 
         Bukkit.getScheduler().runTask(plugin, () -> restoreReturnLocationIfPresent(player));
 
-        if (currentMatch.contains(uuid)) {
-            inMatchAlive.remove(uuid);
-            currentMatch.remove(uuid);
-            teamMap.remove(uuid);
-            Bukkit.getScheduler().runTaskLater(plugin, this::resolveMatchIfComplete, 1L);
+        ArenaMatch match = matchByPlayer.remove(uuid);
+        if (match != null) {
+            match.remove(uuid);
+            Bukkit.getScheduler().runTaskLater(plugin, () -> resolveMatchIfComplete(match), 1L);
         }
     }
 
@@ -223,11 +271,10 @@ public class TournamentEvent extends BaseEvent {
         if (player.getWorld() != eventWorld) return false;
 
         UUID uuid = player.getUniqueId();
-        if (!currentMatch.contains(uuid)) return false;
+        ArenaMatch match = matchByPlayer.get(uuid);
+        if (match == null) return false;
 
-        inMatchAlive.remove(uuid);
-        participants.remove(uuid);
-        queue.remove(uuid);
+        match.eliminate(uuid);
 
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
             if (!player.isOnline()) return;
@@ -238,10 +285,9 @@ public class TournamentEvent extends BaseEvent {
 
             player.setGameMode(GameMode.SPECTATOR);
             TeleportUtil.teleportRetainingRideStack(plugin, player, getLobbyLocation());
-            player.sendMessage(plugin.getMessage("tournament-eliminated"));
         }, 1L);
 
-        Bukkit.getScheduler().runTaskLater(plugin, this::resolveMatchIfComplete, 2L);
+        Bukkit.getScheduler().runTaskLater(plugin, () -> resolveMatchIfComplete(match), 2L);
         return true;
     }
 
@@ -250,9 +296,92 @@ public class TournamentEvent extends BaseEvent {
         return "Tournament";
     }
 
+    public void trackBlockChange(Block block) {
+        if (eventWorld == null || block.getWorld() != eventWorld) return;
+        for (Arena arena : arenas) {
+            if (arena.getSnapshot() != null) arena.getSnapshot().markChanged(block);
+        }
+    }
+
+    private void loadArenas(int arenaSize) {
+        arenas.clear();
+        boolean snapshots = plugin.getConfig().getBoolean("tournament.arena-reset.enabled", true);
+        int pad = plugin.getConfig().getInt("tournament.arena-padding", 16);
+
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("tournament.arenas");
+        if (section != null) {
+            for (String id : section.getKeys(false)) {
+                ConfigurationSection a = section.getConfigurationSection(id);
+                if (a == null) continue;
+
+                Location s0 = readSpawn(a.getConfigurationSection("team0"));
+                Location s1 = readSpawn(a.getConfigurationSection("team1"));
+                if (s0 == null || s1 == null) {
+                    plugin.getLogger().warning("Tournament arena '" + id + "' needs team0 and team1 spawns, skipping.");
+                    continue;
+                }
+
+                ArenaSnapshot snapshot = null;
+                if (snapshots) {
+                    int minX = a.getInt("region.min-x", (int) Math.floor(Math.min(s0.getX(), s1.getX())) - pad);
+                    int minZ = a.getInt("region.min-z", (int) Math.floor(Math.min(s0.getZ(), s1.getZ())) - pad);
+                    int maxX = a.getInt("region.max-x", (int) Math.floor(Math.max(s0.getX(), s1.getX())) + pad);
+                    int maxZ = a.getInt("region.max-z", (int) Math.floor(Math.max(s0.getZ(), s1.getZ())) + pad);
+                    snapshot = captureArena(id, minX, minZ, maxX, maxZ);
+                }
+                arenas.add(new Arena(id, s0, s1, snapshot));
+            }
+        }
+
+        if (arenas.isEmpty()) {
+            int half = arenaSize / 2;
+            ArenaSnapshot snapshot = snapshots ? captureArena("default", -half, -half, half, half) : null;
+            arenas.add(new Arena("default", getArenaSpawn(0), getArenaSpawn(1), snapshot));
+        }
+    }
+
+    private Location readSpawn(ConfigurationSection s) {
+        if (s == null || !s.contains("x") || !s.contains("y") || !s.contains("z")) return null;
+        return new Location(eventWorld, s.getDouble("x") + 0.5, s.getDouble("y"), s.getDouble("z") + 0.5,
+                (float) s.getDouble("yaw", 0.0), (float) s.getDouble("pitch", 0.0));
+    }
+
+    private ArenaSnapshot captureArena(String id, int minX, int minZ, int maxX, int maxZ) {
+        long started = System.currentTimeMillis();
+        ArenaSnapshot snapshot = ArenaSnapshot.capture(plugin, eventWorld, minX, minZ, maxX, maxZ);
+        plugin.getLogger().info("Tournament arena '" + id + "' captured: " + snapshot.getChunkCount() + " chunks in "
+                + (System.currentTimeMillis() - started) + "ms");
+        return snapshot;
+    }
+
+    private CompletableFuture<Integer> resetArena(Arena arena) {
+        if (arena.getSnapshot() == null) return CompletableFuture.completedFuture(0);
+
+        long started = System.currentTimeMillis();
+        int perTick = plugin.getConfig().getInt("tournament.arena-reset.blocks-per-tick", 4000);
+        return arena.getSnapshot().restore(perTick).whenComplete((restored, t) -> {
+            if (restored != null && restored > 0) {
+                plugin.getLogger().info("Tournament arena '" + arena.getId() + "' reset: " + restored + " blocks in "
+                        + (System.currentTimeMillis() - started) + "ms");
+            }
+        });
+    }
+
+    private void releaseArena(Arena arena) {
+        arena.setMatch(null);
+        arena.setResetting(true);
+
+        CompletableFuture<Integer> reset = resetArena(arena);
+        Bukkit.getScheduler().runTaskLater(plugin, () -> reset.whenComplete((restored, t) -> {
+            arena.setResetting(false);
+            fillArenas();
+        }), 60L);
+    }
+
     private void saveReturnLocation(Player player) {
         UUID uuid = player.getUniqueId();
-        returnLocations.putIfAbsent(uuid, player.getLocation().clone());
+        Location loc = player.getLocation().clone();
+        if (returnLocations.putIfAbsent(uuid, loc) == null) plugin.getStateJournal().recordReturn(player, loc);
     }
 
     private boolean restoreReturnLocationIfPresent(Player player) {
@@ -353,166 +482,192 @@ public class TournamentEvent extends BaseEvent {
             Player p = Bukkit.getPlayer(uuid);
             if (p == null || !p.isOnline()) continue;
             if (p.getWorld() != eventWorld) continue;
-            if (currentMatch.contains(uuid)) continue;
+            if (matchByPlayer.containsKey(uuid)) continue;
 
             p.setGameMode(GameMode.SPECTATOR);
             TeleportUtil.teleportRetainingRideStack(plugin, p, getLobbyLocation());
         }
     }
 
-    private void startNextMatch() {
-        currentMatch.clear();
-        inMatchAlive.clear();
-        teamMap.clear();
+    private Bracket.Format readFormat() {
+        String format = plugin.getConfig().getString("tournament.bracket.format", "single");
+        return "double".equalsIgnoreCase(format) ? Bracket.Format.DOUBLE : Bracket.Format.SINGLE;
+    }
 
-        queue.removeIf(uuid -> {
-            Player p = Bukkit.getPlayer(uuid);
-            return p == null || !p.isOnline() || !participants.contains(uuid);
-        });
+    private List<List<UUID>> formTeams(List<UUID> seeded) {
+        int teamCount = seeded.size() / teamSize;
+        List<List<UUID>> teams = new ArrayList<>(teamCount);
+        for (int i = 0; i < teamCount; i++) teams.add(new ArrayList<>(teamSize));
 
-        if (mode == Mode.ONE_V_ONE) {
-            if (participants.size() <= 1) { announceWinner(); return; }
-        } else {
-            if (participants.size() <= 2) { announceWinner(); return; }
+        // Snake order keeps team strength even when the seeding list is ranked
+        for (int i = 0; i < teamCount * teamSize; i++) {
+            int pass = i / teamCount;
+            int slot = i % teamCount;
+            teams.get(pass % 2 == 0 ? slot : teamCount - 1 - slot).add(seeded.get(i));
         }
 
-        if (queue.size() < mode.playersPerMatch) {
-            List<UUID> left = new ArrayList<>(participants);
-            Collections.shuffle(left);
-            queue.clear();
-            queue.addAll(left);
-            if (queue.size() < mode.playersPerMatch) { announceWinner(); return; }
+        for (UUID leftover : seeded.subList(teamCount * teamSize, seeded.size())) {
+            participants.remove(leftover);
+            Player p = Bukkit.getPlayer(leftover);
+            if (p != null) p.sendMessage("§e[Tournament] Teams are full, so you'll spectate this tournament.");
         }
+        return teams;
+    }
+
+    private void fillArenas() {
+        if (!active || phase != Phase.RUNNING || bracket == null) return;
+
+        for (Arena arena : arenas) {
+            if (!arena.isFree()) continue;
 
-        List<UUID> picked = new ArrayList<>(mode.playersPerMatch);
-        while (picked.size() < mode.playersPerMatch && !queue.isEmpty()) {
-            UUID u = queue.pollFirst();
-            if (participants.contains(u)) picked.add(u);
+            BracketMatch next = nextPlayable();
+            if (next == null) break;
+            startArenaMatch(arena, next);
         }
-        if (picked.size() < mode.playersPerMatch) { announceWinner(); return; }
 
-        if (mode == Mode.ONE_V_ONE) {
-            teamMap.put(picked.get(0), 0);
-            teamMap.put(picked.get(1), 1);
-        } else {
-            teamMap.put(picked.get(0), 0);
-            teamMap.put(picked.get(1), 0);
-            teamMap.put(picked.get(2), 1);
-            teamMap.put(picked.get(3), 1);
+        if (bracket.isComplete()) {
+            announceWinner();
+        } else if (bracket.nextReady() == null && arenas.stream().allMatch(a -> a.getMatch() == null)) {
+            plugin.getLogger().warning("Tournament bracket has no playable matches left; ending.");
+            announceWinner();
         }
+    }
 
-        currentMatch.addAll(picked);
-        inMatchAlive.addAll(picked);
+    private List<UUID> presentMembers(Entrant entrant) {
+        List<UUID> out = new ArrayList<>();
+        if (entrant == null) return out;
+        for (UUID uuid : entrant.getMembers()) {
+            if (!participants.contains(uuid) || matchByPlayer.containsKey(uuid)) continue;
+            Player p = Bukkit.getPlayer(uuid);
+            if (p != null && p.isOnline()) out.add(uuid);
+        }
+        return out;
+    }
 
-        setAllWaitingSpectator();
+    private BracketMatch nextPlayable() {
+        BracketMatch m;
+        while ((m = bracket.nextReady()) != null) {
+            boolean a = !presentMembers(m.getEntrant(0)).isEmpty();
+            boolean b = !presentMembers(m.getEntrant(1)).isEmpty();
+            if (a && b) return m;
+
+            bracket.forfeit(m, a ? 0 : b ? 1 : -1);
+            if (a || b) {
+                Bukkit.broadcastMessage("§7[Tournament] " + formatEntrant(m.getEntrant(a ? 0 : 1))
+                        + " §7advance by forfeit (" + bracket.label(m) + ").");
+            }
+        }
+        return null;
+    }
+
+    private void startArenaMatch(Arena arena, BracketMatch bracketMatch) {
+        List<List<UUID>> sides = List.of(
+                presentMembers(bracketMatch.getEntrant(0)),
+                presentMembers(bracketMatch.getEntrant(1)));
 
-        Location aSpawn = getArenaSpawn(0);
-        Location bSpawn = getArenaSpawn(1);
+        bracket.markLive(bracketMatch);
+        ArenaMatch match = new ArenaMatch(arena, bracketMatch, sides);
+        arena.setMatch(match);
+        for (UUID uuid : match.getPlayers()) matchByPlayer.put(uuid, match);
 
-        for (UUID uuid : picked) {
+        for (UUID uuid : match.getPlayers()) {
             Player p = Bukkit.getPlayer(uuid);
             if (p == null) continue;
 
             p.setGameMode(GameMode.SURVIVAL);
-            TeleportUtil.teleportRetainingRideStack(plugin, p, teamMap.get(uuid) == 0 ? aSpawn : bSpawn);
+            TeleportUtil.teleportRetainingRideStack(plugin, p, arena.getSpawn(match.getTeam(uuid)));
             prepFighter(p);
         }
 
-        Bukkit.broadcastMessage("§e[Tournament] Match starting: " +
-                formatTeamList(0) + " §7vs§r " + formatTeamList(1));
+        String where = arenas.size() > 1 ? " §7(" + arena.getId() + ")§e" : "";
+        Bukkit.broadcastMessage("§e[Tournament] " + bracket.label(bracketMatch) + " starting" + where + ": " +
+                formatTeamList(match, 0) + " §7vs§r " + formatTeamList(match, 1));
     }
 
-    private void resolveMatchIfComplete() {
-        if (currentMatch.isEmpty()) return;
-
-        int aliveTeam0 = 0, aliveTeam1 = 0;
-        for (UUID uuid : currentMatch) {
-            if (!inMatchAlive.contains(uuid)) continue;
-            Integer team = teamMap.get(uuid);
-            if (team == null) continue;
-            if (team == 0) aliveTeam0++;
-            else aliveTeam1++;
-        }
-
-        if (aliveTeam0 > 0 && aliveTeam1 > 0) return;
-
-        int winnerTeam = (aliveTeam0 > 0) ? 0 : 1;
-
-        List<UUID> winners = new ArrayList<>();
-        List<UUID> losers = new ArrayList<>();
+    private void resolveMatchIfComplete(ArenaMatch match) {
+        if (match.isFinished()) return;
 
-        for (UUID u : currentMatch) {
-            Integer team = teamMap.get(u);
-            if (team == null) continue;
+        int winnerTeam = match.getWinningTeam();
+        if (winnerTeam == ArenaMatch.UNDECIDED) return;
+        match.setFinished();
 
-            if (team == winnerTeam && inMatchAlive.contains(u)) winners.add(u);
-            if (team == (1 - winnerTeam)) losers.add(u);
+        BracketMatch bracketMatch = match.getBracketMatch();
+        String label = bracket.label(bracketMatch);
+        bracket.report(bracketMatch, winnerTeam == ArenaMatch.NO_WINNER ? -1 : winnerTeam);
+        if (winnerTeam >= 0) {
+            plugin.getRatingManager().recordMatch(match.getRoster(winnerTeam), match.getRoster(1 - winnerTeam));
         }
 
-        for (UUID loser : losers) {
-            participants.remove(loser);
-            Player lp = Bukkit.getPlayer(loser);
-            if (lp != null && lp.isOnline() && lp.getWorld() == eventWorld) {
-                lp.setGameMode(GameMode.SPECTATOR);
-                TeleportUtil.teleportRetainingRideStack(plugin, lp, getLobbyLocation());
-                lp.sendMessage(plugin.getMessage("tournament-eliminated"));
+        for (UUID u : match.getPlayers()) {
+            Player p = Bukkit.getPlayer(u);
+            boolean online = p != null && p.isOnline();
+
+            if (match.getTeam(u) == winnerTeam) {
+                if (online && match.isAlive(u)) {
+                    TeleportUtil.teleportRetainingRideStack(plugin, p, getLobbyLocation());
+                    p.getInventory().clear();
+                    p.setGameMode(GameMode.SPECTATOR);
+                    p.addPotionEffect(new PotionEffect(PotionEffectType.REGENERATION, 60, 2));
+                }
+                if (online) p.sendMessage(plugin.getMessage("tournament-match-win"));
+                continue;
             }
-        }
 
-        for (UUID win : winners) {
-            Player p = Bukkit.getPlayer(win);
-            if (p != null && p.isOnline()) {
-                TeleportUtil.teleportRetainingRideStack(plugin, p, getLobbyLocation());
-                p.getInventory().clear();
+            Entrant entrant = bracket.getEntrant(u);
+            boolean out = entrant == null || entrant.isEliminated();
+            if (out) participants.remove(u);
+
+            if (online && p.getWorld() == eventWorld) {
                 p.setGameMode(GameMode.SPECTATOR);
-                p.addPotionEffect(new PotionEffect(PotionEffectType.REGENERATION, 60, 2));
-                p.sendMessage(plugin.getMessage("tournament-match-win"));
+                TeleportUtil.teleportRetainingRideStack(plugin, p, getLobbyLocation());
+                p.sendMessage(plugin.getMessage(out ? "tournament-eliminated" : "tournament-dropped"));
             }
-            queue.addLast(win);
         }
 
-        Bukkit.broadcastMessage("§a[Tournament] Match ended. Winner: " +
-                (winnerTeam == 0 ? formatTeamList(0) : formatTeamList(1)));
-
-        currentMatch.clear();
-        inMatchAlive.clear();
-        teamMap.clear();
+        Bukkit.broadcastMessage("§a[Tournament] " + label + " ended. Winner: " +
+                (winnerTeam == ArenaMatch.NO_WINNER ? "§7(none)" : formatTeamList(match, winnerTeam)));
 
-        Bukkit.getScheduler().runTaskLater(plugin, this::startNextMatch, 60L);
+        for (UUID u : match.getPlayers()) matchByPlayer.remove(u);
+        releaseArena(match.getArena());
     }
 
     private void announceWinner() {
-        if (participants.isEmpty()) {
+        Entrant champion = bracket == null ? null : bracket.getChampion();
+        if (champion == null) {
             Bukkit.broadcastMessage("§c[Tournament] Tournament ended with no winner.");
             plugin.getEventManager().endEvent();
             return;
         }
 
-        if (mode == Mode.ONE_V_ONE) {
-            UUID w = participants.iterator().next();
-            Player p = Bukkit.getPlayer(w);
-            String name = (p != null) ? p.getName() : "Unknown";
-            Bukkit.broadcastMessage("§6[Tournament] §eWinner: §6" + name);
-            plugin.getEventManager().endEvent();
-            return;
-        }
+        String names = champion.getMembers().stream()
+                .map(this::playerName)
+                .collect(Collectors.joining(" & "));
 
-        if (participants.size() <= 2) {
-            String names = participants.stream()
-                    .map(u -> {
-                        Player p = Bukkit.getPlayer(u);
-                        return p != null ? p.getName() : "Unknown";
-                    })
-                    .collect(Collectors.joining(" & "));
+        if (teamSize == 1) {
+            Bukkit.broadcastMessage("§6[Tournament] §eWinner: §6" + names);
+        } else {
             Bukkit.broadcastMessage(plugin.getMessage("tournament-winning-team").replace("{players}", names));
-            plugin.getEventManager().endEvent();
-            return;
         }
-
-        Bukkit.broadcastMessage("§6[Tournament] Tournament finished.");
         plugin.getEventManager().endEvent();
     }
 
+    public List<String> describeBracket() {
+        if (bracket == null) return List.of("§e[Tournament] The bracket is drawn when the tournament starts.");
+        return bracket.describe(e -> formatEntrant(e) + " §7(" + Math.round(plugin.getRatingManager().averageRating(e.getMembers())) + ")", 6);
+    }
+
+    private String playerName(UUID uuid) {
+        Player p = Bukkit.getPlayer(uuid);
+        if (p != null) return p.getName();
+        String name = Bukkit.getOfflinePlayer(uuid).getName();
+        return name != null ? name : "Unknown";
+    }
+
+    private String formatEntrant(Entrant entrant) {
+        if (entrant == null) return "§7(bye)";
+        return "§b" + entrant.getMembers().stream().map(this::playerName).collect(Collectors.joining(" §7& §b"));
+    }
+
     private void prepFighter(Player player) {
         player.setHealth(20.0);
         player.setFoodLevel(20);
@@ -540,9 +695,8 @@ public class TournamentEvent extends BaseEvent {
         player.getInventory().addItem(new ItemStack(Material.COOKED_BEEF, 64));
     }
 
-    private String formatTeamList(int team) {
-        List<String> names = currentMatch.stream()
-                .filter(u -> Objects.equals(teamMap.get(u), team))
+    private String formatTeamList(ArenaMatch match, int team) {
+        List<String> names = match.getTeamMembers(team).stream()
                 .map(u -> {
                     Player p = Bukkit.getPlayer(u);
                     return p != null ? p.getName() : "Unknown";
@@ -1,20 +1,28 @@
 package org.tekkabyte.eventPlugin.events;
 
 import org.bukkit.*;
-import org.bukkit.block.Block;
+import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.tekkabyte.eventPlugin.EventPlugin;
 import org.tekkabyte.eventPlugin.utils.TeleportUtil;
+import org.tekkabyte.eventPlugin.world.BlockPlacementJob;
+import org.tekkabyte.eventPlugin.world.ChunkPregenerator;
+import org.tekkabyte.eventPlugin.world.ScatterPool;
 
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
 
 public class UHCEvent extends BaseEvent {
 
-    private enum Phase { CREATED, RUNNING }
+    // STARTING covers the scatter: players are leaving the box but PvP stays off until everyone has landed
+    private enum Phase { PREPARING, CREATED, STARTING, RUNNING }
     private Phase phase = Phase.CREATED;
 
+    private BlockPlacementJob boxJob;
+    private ChunkPregenerator pregen;
+    private ScatterPool scatterPool;
+    private BukkitTask scatterTask;
+
     private final Set<UUID> eliminated = new HashSet<>();
 
     private int boxMinX, boxMaxX, boxMinY, boxMaxY, boxMinZ, boxMaxZ;
@@ -43,6 +51,17 @@ public class UHCEvent extends BaseEvent {
         int borderSize = plugin.getConfig().getInt("uhc.world-border-size", 1000);
         plugin.getWorldManager().setupWorldBorder(eventWorld, borderSize, 0, 0);
 
+        if (plugin.getConfig().getBoolean("uhc.pregen.enabled", true)) {
+            startPregen(borderSize);
+        }
+
+        int half = borderSize / 2;
+        int margin = 50;
+        scatterPool = new ScatterPool(plugin, eventWorld, -half + margin, half - margin,
+                plugin.getConfig().getDouble("uhc.scatter.min-spacing", 100.0),
+                plugin.getConfig().getInt("uhc.scatter.max-concurrent", 4));
+        scatterPool.fill(plugin.getConfig().getInt("uhc.scatter.pool-size", 32));
+
         boolean naturalRegen = plugin.getConfig().getBoolean("uhc.natural-regen", false);
         eventWorld.setGameRule(GameRule.NATURAL_REGENERATION, naturalRegen);
 
@@ -52,37 +71,62 @@ public class UHCEvent extends BaseEvent {
         // waiting phase protections
         eventWorld.setPVP(false);
 
-        phase = Phase.CREATED;
         active = true;
 
-        if (plugin.getConfig().getBoolean("uhc.waiting-box.enabled", true)) {
-            buildWaitingBox();
+        if (!plugin.getConfig().getBoolean("uhc.waiting-box.enabled", true)) {
+            phase = Phase.CREATED;
+            plugin.getLogger().info("UHC Event created in world: " + worldName);
+            return;
         }
 
-        plugin.getLogger().info("UHC Event created in world: " + worldName);
+        phase = Phase.PREPARING;
+        BlockPlacementJob job = buildWaitingBox();
+        boxJob = job;
+
+        long started = System.currentTimeMillis();
+        job.start().whenComplete((v, t) -> {
+            if (boxJob != job || eventWorld == null) return;
+
+            if (t != null) {
+                plugin.getLogger().warning("UHC waiting box was not fully built: " + t.getMessage());
+            }
+
+            boxJob = null;
+            phase = Phase.CREATED;
+            plugin.getLogger().info("UHC Event created in world: " + worldName
+                    + " (waiting box ready in " + (System.currentTimeMillis() - started) + "ms)");
+            Bukkit.broadcastMessage(plugin.getMessage("uhc-ready"));
+        });
     }
 
     @Override
     public void startMatch() {
         if (eventWorld == null || !active) return;
-        if (phase == Phase.RUNNING) return;
-
-        eventWorld.setPVP(true);
+        if (phase == Phase.STARTING || phase == Phase.RUNNING) return;
+        String blocked = getStartBlockReason();
+        if (blocked != null) {
+            plugin.getLogger().warning("UHC match can't start yet: " + ChatColor.stripColor(blocked));
+            return;
+        }
 
+        List<UUID> players = new ArrayList<>();
         for (UUID uuid : plugin.getEventManager().getEventPlayerUUIDs()) {
             if (eliminated.contains(uuid)) continue;
             Player p = Bukkit.getPlayer(uuid);
             if (p == null || !p.isOnline()) continue;
-
-            prepMatchPlayer(p);
-            scatterPlayer(p);
+            players.add(uuid);
         }
 
         int shrinkTime = plugin.getConfig().getInt("uhc.world-border-shrink-time", 3600);
         int finalSize = plugin.getConfig().getInt("uhc.world-border-final-size", 100);
         plugin.getWorldManager().shrinkWorldBorder(eventWorld, finalSize, shrinkTime);
 
-        phase = Phase.RUNNING;
+        phase = Phase.STARTING;
+
+        ScatterPool pool = scatterPool;
+        pool.fill(players.size()).whenComplete((ignored, t) -> {
+            if (scatterPool == pool && phase == Phase.STARTING) scatterPlayers(players);
+        });
 
         Bukkit.broadcastMessage(plugin.getMessage("event-started").replace("{type}", "UHC"));
         plugin.getLogger().info("UHC match started.");
@@ -90,6 +134,24 @@ public class UHCEvent extends BaseEvent {
 
     @Override
     public void end() {
+        BlockPlacementJob job = boxJob;
+        boxJob = null;
+        if (job != null) job.cancel();
+
+        if (scatterTask != null) {
+            scatterTask.cancel();
+            scatterTask = null;
+        }
+        if (scatterPool != null) {
+            scatterPool.clear();
+            scatterPool = null;
+        }
+
+        if (pregen != null) {
+            pregen.stop();
+            pregen = null;
+        }
+
         if (eventWorld == null) return;
 
         for (UUID uuid : plugin.getEventManager().getEventPlayerUUIDs()) {
@@ -151,17 +213,20 @@ public class UHCEvent extends BaseEvent {
 
     @Override
     public boolean canJoin(Player player) {
+        if (phase == Phase.PREPARING) return false;
+
         if (plugin.getConfig().getBoolean("uhc.deny-rejoin-after-death", true)
                 && eliminated.contains(player.getUniqueId())) return false;
 
         if (plugin.getConfig().getBoolean("uhc.lock-join-after-start", true)
-                && phase == Phase.RUNNING) return false;
+                && (phase == Phase.STARTING || phase == Phase.RUNNING)) return false;
 
         return true;
     }
 
     @Override
     public String getJoinDenyMessageKey() {
+        if (phase == Phase.PREPARING) return "uhc-preparing";
         return "uhc-eliminated-no-rejoin";
     }
 
@@ -204,7 +269,8 @@ public class UHCEvent extends BaseEvent {
 
     private void saveReturnLocation(Player player) {
         UUID uuid = player.getUniqueId();
-        returnLocations.putIfAbsent(uuid, player.getLocation().clone());
+        Location loc = player.getLocation().clone();
+        if (returnLocations.putIfAbsent(uuid, loc) == null) plugin.getStateJournal().recordReturn(player, loc);
     }
 
     private void restoreReturnLocation(Player player) {
@@ -222,8 +288,43 @@ public class UHCEvent extends BaseEvent {
     }
 
 
+    public String getStartBlockReason() {
+        if (phase == Phase.PREPARING) return "§e[UHC] The waiting box is still being built.";
+        if (pregen != null && pregen.isRunning()) {
+            return "§e[UHC] World pre-generation is still running (" + pregen.describe()
+                    + "). Use /eventadmin pregen stop to skip it.";
+        }
+        return null;
+    }
+
+    public ChunkPregenerator getPregenerator() {
+        return pregen;
+    }
+
+    private void startPregen(int borderSize) {
+        int radius = borderSize / 2 + plugin.getConfig().getInt("uhc.pregen.extra-blocks", 32);
+        int concurrent = plugin.getConfig().getInt("uhc.pregen.max-concurrent", 16);
+        double minTps = plugin.getConfig().getDouble("uhc.pregen.min-tps", 18.0);
+
+        ChunkPregenerator generator = new ChunkPregenerator(plugin, eventWorld, 0, 0, radius, concurrent, minTps);
+        pregen = generator;
+        plugin.getLogger().info("UHC pre-generating " + generator.getTotal() + " chunks in " + eventWorld.getName());
+
+        generator.start().thenRun(() -> {
+            if (pregen != generator) return;
+
+            String msg = generator.isStopped()
+                    ? "§e[UHC] World pre-generation stopped: " + generator.describe()
+                    : "§a[UHC] World pre-generation finished: " + generator.describe();
+            plugin.getLogger().info(ChatColor.stripColor(msg));
+            for (Player p : Bukkit.getOnlinePlayers()) {
+                if (p.hasPermission("eventplugin.admin")) p.sendMessage(msg);
+            }
+        });
+    }
+
     public boolean isWaitingPhase() {
-        return active && phase == Phase.CREATED;
+        return active && phase != Phase.RUNNING;
     }
 
     public boolean isInWaitingBox(Location loc) {
@@ -246,7 +347,7 @@ public class UHCEvent extends BaseEvent {
         return new Location(eventWorld, x + 0.5, y + 1, z + 0.5);
     }
 
-    private void buildWaitingBox() {
+    private BlockPlacementJob buildWaitingBox() {
         int cx = plugin.getConfig().getInt("uhc.waiting-box.center-x", 0);
         int cy = plugin.getConfig().getInt("uhc.waiting-box.center-y", 150);
         int cz = plugin.getConfig().getInt("uhc.waiting-box.center-z", 0);
@@ -275,26 +376,22 @@ public class UHCEvent extends BaseEvent {
         boxMinY = minY;
         boxMaxY = maxY + 1;
 
-        for (int x = minX; x <= maxX; x++) {
-            for (int z = minZ; z <= maxZ; z++) {
-                eventWorld.getBlockAt(x, minY, z).setType(floor, false);
-            }
-        }
+        int perTick = plugin.getConfig().getInt("uhc.waiting-box.blocks-per-tick", 2000);
+        BlockPlacementJob job = new BlockPlacementJob(plugin, eventWorld, perTick);
+
+        job.fill(minX, minY, minZ, maxX, minY, maxZ, floor);
 
         for (int y = minY + 1; y <= maxY; y++) {
             for (int x = minX; x <= maxX; x++) {
                 for (int z = minZ; z <= maxZ; z++) {
                     boolean edge = (x == minX || x == maxX || z == minZ || z == maxZ);
-                    if (edge) eventWorld.getBlockAt(x, y, z).setType(wall, false);
+                    if (edge) job.set(x, y, z, wall);
                 }
             }
         }
 
-        for (int x = minX; x <= maxX; x++) {
-            for (int z = minZ; z <= maxZ; z++) {
-                eventWorld.getBlockAt(x, maxY + 1, z).setType(roof, false);
-            }
-        }
+        job.fill(minX, maxY + 1, minZ, maxX, maxY + 1, maxZ, roof);
+        return job;
     }
 
 
@@ -316,46 +413,51 @@ public class UHCEvent extends BaseEvent {
         player.getInventory().addItem(new ItemStack(Material.OAK_LOG, 32));
     }
 
-    private void scatterPlayer(Player player) {
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            int borderSize = plugin.getConfig().getInt("uhc.world-border-size", 1000);
-            int half = borderSize / 2;
-
-            int margin = 50;
-            int min = -half + margin;
-            int max = half - margin;
+    private void scatterPlayers(List<UUID> players) {
+        int perTick = Math.max(1, plugin.getConfig().getInt("uhc.scatter.teleports-per-tick", 4));
+        Iterator<UUID> queue = players.iterator();
 
-            for (int tries = 0; tries < 40; tries++) {
-                int x = ThreadLocalRandom.current().nextInt(min, max + 1);
-                int z = ThreadLocalRandom.current().nextInt(min, max + 1);
+        scatterTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            int sent = 0;
+            while (sent < perTick && queue.hasNext()) {
+                Player p = Bukkit.getPlayer(queue.next());
+                if (p == null || !p.isOnline() || eliminated.contains(p.getUniqueId())) continue;
 
-                int y = eventWorld.getHighestBlockYAt(x, z) + 1;
-                Location loc = new Location(eventWorld, x + 0.5, y, z + 0.5);
-
-                if (isSafeSpawn(loc)) {
-                    plugin.getLogger().info("UHC DEBUG: scattering " + player.getName() + " to " + fmt(loc));
-                    TeleportUtil.teleportRetainingRideStack(plugin, player, loc);
-                    return;
-                }
+                prepMatchPlayer(p);
+                scatterPlayer(p);
+                sent++;
             }
 
-            Location fallback = new Location(eventWorld, 0.5, eventWorld.getHighestBlockYAt(0, 0) + 1, 0.5);
-            plugin.getLogger().warning("UHC DEBUG: scatter fallback for " + player.getName() + " -> " + fmt(fallback));
-            TeleportUtil.teleportRetainingRideStack(plugin, player, fallback);
-        });
+            if (!queue.hasNext() && scatterTask != null) {
+                scatterTask.cancel();
+                scatterTask = null;
+                beginFighting();
+            }
+        }, 0L, 1L);
     }
 
-    private boolean isSafeSpawn(Location loc) {
-        Block feet = loc.getBlock();
-        Block head = loc.clone().add(0, 1, 0).getBlock();
-        Block below = loc.clone().add(0, -1, 0).getBlock();
+    private void beginFighting() {
+        if (eventWorld == null || phase != Phase.STARTING) return;
+
+        eventWorld.setPVP(true);
+        phase = Phase.RUNNING;
+        plugin.getLogger().info("UHC scatter finished; PvP enabled.");
+
+        // deaths during the scatter skipped the winner check
+        if (!eliminated.isEmpty()) Bukkit.getScheduler().runTaskLater(plugin, this::checkForWinner, 2L);
+    }
 
-        if (!feet.getType().isAir()) return false;
-        if (!head.getType().isAir()) return false;
+    private void scatterPlayer(Player player) {
+        Location loc = scatterPool.take();
+        if (loc != null) {
+            plugin.getLogger().info("UHC DEBUG: scattering " + player.getName() + " to " + fmt(loc));
+            TeleportUtil.teleportRetainingRideStack(plugin, player, loc);
+            return;
+        }
 
-        Material m = below.getType();
-        if (m == Material.LAVA || m == Material.WATER) return false;
-        return m.isSolid();
+        Location fallback = new Location(eventWorld, 0.5, eventWorld.getHighestBlockYAt(0, 0) + 1, 0.5);
+        plugin.getLogger().warning("UHC DEBUG: scatter fallback for " + player.getName() + " -> " + fmt(fallback));
+        TeleportUtil.teleportRetainingRideStack(plugin, player, fallback);
     }
 
     private void checkForWinner() {
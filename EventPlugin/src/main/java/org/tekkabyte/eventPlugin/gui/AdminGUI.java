@@ -1,14 +1,11 @@
 package org.tekkabyte.eventPlugin.gui;
 
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
-import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataType;
 import org.tekkabyte.eventPlugin.EventPlugin;
 import org.tekkabyte.eventPlugin.managers.RecipeManager;
 import org.tekkabyte.eventPlugin.models.CustomRecipe;
@@ -21,32 +18,17 @@ public class AdminGUI {
     private final EventPlugin plugin;
     private final RecipeManager recipeManager;
 
+    public static final int SLOT_INFO = 4;
+    public static final int SLOT_FIRST_MATERIAL = 10;
+    public static final int SLOT_LAST_MATERIAL = 34;
     public static final int SLOT_BACK = 45;
     public static final int SLOT_RESULT = 49;
     public static final int SLOT_SAVE = 52;
     public static final int SLOT_DELETE = 53;
 
-    public static final String ACTION_OPEN = "open";
-    public static final String ACTION_BACK = "back";
-    public static final String ACTION_SAVE = "save";
-    public static final String ACTION_DELETE = "delete";
-
-    private final NamespacedKey keyAction;
-    private final NamespacedKey keyRecipeId;
-
     public AdminGUI(EventPlugin plugin, RecipeManager recipeManager) {
         this.plugin = plugin;
         this.recipeManager = recipeManager;
-        this.keyAction = new NamespacedKey(plugin, "admin_action");
-        this.keyRecipeId = new NamespacedKey(plugin, "admin_recipe_id");
-    }
-
-    public NamespacedKey getKeyAction() {
-        return keyAction;
-    }
-
-    public NamespacedKey getKeyRecipeId() {
-        return keyRecipeId;
     }
 
     public String getAdminMenuTitle() {
@@ -62,7 +44,7 @@ public class AdminGUI {
         List<CustomRecipe> recipes = recipeManager.getAllRecipes();
         int size = Math.min(54, Math.max(9, ((recipes.size() + 8) / 9) * 9));
 
-        Inventory inv = Bukkit.createInventory(null, size, getAdminMenuTitle());
+        Menu menu = new Menu(size, getAdminMenuTitle());
 
         for (int i = 0; i < recipes.size() && i < size; i++) {
             CustomRecipe r = recipes.get(i);
@@ -75,66 +57,109 @@ public class AdminGUI {
             if (meta != null) {
                 meta.setDisplayName(ChatColor.GREEN + r.getName());
 
-                meta.getPersistentDataContainer().set(keyAction, PersistentDataType.STRING, ACTION_OPEN);
-                meta.getPersistentDataContainer().set(keyRecipeId, PersistentDataType.STRING, r.getId());
-
                 List<String> lore = new ArrayList<>();
                 lore.add(ChatColor.GRAY + "Click to edit");
                 meta.setLore(lore);
                 icon.setItemMeta(meta);
             }
 
-            inv.setItem(i, icon);
+            String recipeId = r.getId();
+            menu.setButton(i, icon, (p, click) -> {
+                CustomRecipe recipe = lookup(p, recipeId);
+                if (recipe != null) openRecipeEditor(p, recipe);
+            });
         }
 
-        player.openInventory(inv);
+        menu.open(player);
     }
 
     public void openRecipeEditor(Player player, CustomRecipe recipe) {
-        Inventory inv = Bukkit.createInventory(null, 54, getEditorTitle(recipe));
+        Menu menu = new Menu(54, getEditorTitle(recipe));
+        menu.setPlayerInventoryEditable(true);
 
         ItemStack border = pane(Material.GRAY_STAINED_GLASS_PANE, " ");
-        for (int i = 0; i < 54; i++) inv.setItem(i, border);
+        for (int i = 0; i < 54; i++) menu.setItem(i, border);
 
-        for (int i = 10; i <= 34; i++) inv.setItem(i, null);
+        for (int i = SLOT_FIRST_MATERIAL; i <= SLOT_LAST_MATERIAL; i++) menu.setItem(i, null);
+        menu.setEditable(SLOT_FIRST_MATERIAL, SLOT_LAST_MATERIAL);
+        menu.setEditable(SLOT_RESULT, SLOT_RESULT);
 
-        int slot = 10;
+        int slot = SLOT_FIRST_MATERIAL;
         for (ItemStack mat : recipe.getMaterials()) {
             if (mat == null || mat.getType().isAir()) continue;
-            if (slot > 34) break;
-            inv.setItem(slot++, mat.clone());
+            if (slot > SLOT_LAST_MATERIAL) break;
+            menu.setItem(slot++, mat.clone());
         }
 
         if (recipe.getResult() != null && !recipe.getResult().getType().isAir()) {
-            inv.setItem(SLOT_RESULT, recipe.getResult().clone());
+            menu.setItem(SLOT_RESULT, recipe.getResult().clone());
         } else {
-            inv.setItem(SLOT_RESULT, pane(Material.BARRIER, ChatColor.RED + "Set Result"));
+            menu.setItem(SLOT_RESULT, pane(Material.BARRIER, ChatColor.RED + "Set Result"));
         }
 
-        inv.setItem(4, pane(Material.BOOK, ChatColor.AQUA + "Editor Info",
+        menu.setItem(SLOT_INFO, pane(Material.BOOK, ChatColor.AQUA + "Editor Info",
                 ChatColor.GRAY + "Slots 10-34 = ingredients",
                 ChatColor.GRAY + "Slot 49 = result",
                 ChatColor.GREEN + "Click SAVE to apply"));
 
-        inv.setItem(SLOT_BACK, actionItem(Material.ARROW, ChatColor.YELLOW + "Back", ACTION_BACK, recipe.getId()));
-        inv.setItem(SLOT_SAVE, actionItem(Material.LIME_CONCRETE, ChatColor.GREEN + "SAVE", ACTION_SAVE, recipe.getId(),
-                ChatColor.GRAY + "Save changes"));
-        inv.setItem(SLOT_DELETE, actionItem(Material.BARRIER, ChatColor.RED + "Delete", ACTION_DELETE, recipe.getId()));
+        String recipeId = recipe.getId();
+        menu.setButton(SLOT_BACK, pane(Material.ARROW, ChatColor.YELLOW + "Back"),
+                (p, click) -> openAdminMenu(p));
+        menu.setButton(SLOT_SAVE, pane(Material.LIME_CONCRETE, ChatColor.GREEN + "SAVE", ChatColor.GRAY + "Save changes"),
+                (p, click) -> save(p, menu.getInventory(), recipeId));
+        menu.setButton(SLOT_DELETE, pane(Material.BARRIER, ChatColor.RED + "Delete"),
+                (p, click) -> delete(p, recipeId));
 
-        player.openInventory(inv);
+        menu.open(player);
     }
 
-    private ItemStack actionItem(Material mat, String name, String action, String recipeId, String... loreLines) {
-        ItemStack is = pane(mat, name, loreLines);
-        ItemMeta meta = is.getItemMeta();
-        if (meta != null) {
-            meta.getPersistentDataContainer().set(keyAction, PersistentDataType.STRING, action);
-            if (recipeId != null) {
-                meta.getPersistentDataContainer().set(keyRecipeId, PersistentDataType.STRING, recipeId);
-            }
-            is.setItemMeta(meta);
+    private void delete(Player player, String recipeId) {
+        CustomRecipe recipe = lookup(player, recipeId);
+        if (recipe == null) return;
+
+        recipeManager.deleteRecipe(recipeId);
+        player.sendMessage(ChatColor.GREEN + "Deleted recipe: " + recipe.getName());
+        openAdminMenu(player);
+    }
+
+    private void save(Player player, Inventory top, String recipeId) {
+        CustomRecipe recipe = lookup(player, recipeId);
+        if (recipe == null) return;
+
+        List<ItemStack> mats = new ArrayList<>();
+        for (int i = SLOT_FIRST_MATERIAL; i <= SLOT_LAST_MATERIAL; i++) {
+            ItemStack it = top.getItem(i);
+            if (it == null || it.getType().isAir()) continue;
+            mats.add(it.clone());
         }
-        return is;
+
+        ItemStack result = top.getItem(SLOT_RESULT);
+        if (result == null || result.getType().isAir() || result.getType() == Material.BARRIER) {
+            player.sendMessage(ChatColor.RED + "Set a valid result item in slot 49 first.");
+            return;
+        }
+
+        CustomRecipe updated = new CustomRecipe(
+                recipe.getId(),
+                recipe.getName(),
+                result.clone(),
+                mats,
+                recipe.getMaxCrafts(),
+                recipe.getCraftsUsed()
+        );
+
+        recipeManager.saveRecipe(updated);
+        player.sendMessage(ChatColor.GREEN + "Saved recipe: " + updated.getName());
+        openRecipeEditor(player, updated);
+    }
+
+    private CustomRecipe lookup(Player player, String recipeId) {
+        CustomRecipe recipe = recipeManager.getRecipe(recipeId);
+        if (recipe == null) {
+            player.sendMessage(ChatColor.RED + "That recipe no longer exists.");
+            player.closeInventory();
+        }
+        return recipe;
     }
 
     private ItemStack pane(Material mat, String name, String... loreLines) {
@@ -156,4 +181,4 @@ public class AdminGUI {
         if (title == null) return "";
         return title.length() <= maxLen ? title : title.substring(0, maxLen);
     }
-}
\ No newline at end of file
+}
@@ -3,136 +3,301 @@ package org.tekkabyte.eventPlugin.gui;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
-import org.bukkit.NamespacedKey;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.Inventory;
+import org.bukkit.event.inventory.ClickType;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataType;
 import org.tekkabyte.eventPlugin.EventPlugin;
+import org.tekkabyte.eventPlugin.managers.CraftReservation;
+import org.tekkabyte.eventPlugin.managers.DeliveryManager;
 import org.tekkabyte.eventPlugin.managers.RecipeManager;
+import org.tekkabyte.eventPlugin.managers.RecipeSnapshot;
 import org.tekkabyte.eventPlugin.models.CustomRecipe;
+import org.tekkabyte.eventPlugin.models.InventoryDigest;
+import org.tekkabyte.eventPlugin.utils.InventoryUtil;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 public class CraftingGUI {
 
-    public static final String ACTION_CRAFT = "craft";
-    public static final String ACTION_BACK = "back";
+    public static final int SLOT_INFO = 4;
+    public static final int SLOT_RESULT = 40;
+    public static final int SLOT_BACK = 45;
+    public static final int SLOT_CRAFT = 49;
+
+    public static final int PAGE_SIZE = 45;
+    public static final int SLOT_PREV = 45;
+    public static final int SLOT_PAGE = 49;
+    public static final int SLOT_NEXT = 53;
+    private static final int[] TAB_SLOTS = {46, 47, 48, 50, 51, 52};
+    // Page.category value for the "Craftable Now" tab; config category keys can't contain '#'
+    private static final String CRAFTABLE = "#craftable";
 
     private final EventPlugin plugin;
     private final RecipeManager recipeManager;
+    private final MenuTemplateCache templates = new MenuTemplateCache();
+    private final MenuRefresher refresher;
+    private final Map<String, Category> categories;
+    private final boolean craftableTab;
 
-    private final NamespacedKey keyRecipeId;
-    private final NamespacedKey keyAction;
+    private RecipeSnapshot viewSource;
+    private final Map<String, List<CustomRecipe>> views = new HashMap<>();
 
     public CraftingGUI(EventPlugin plugin, RecipeManager recipeManager) {
         this.plugin = plugin;
         this.recipeManager = recipeManager;
-        this.keyRecipeId = new NamespacedKey(plugin, "recipe_id");
-        this.keyAction = new NamespacedKey(plugin, "action");
+        this.refresher = plugin.getMenuRefresher();
+        this.categories = loadCategories();
+        this.craftableTab = plugin.getConfig().getBoolean("settings.craftable-tab", true);
+        recipeManager.addChangeListener(id -> {
+            templates.invalidate(id);
+            refresher.markRecipe(id);
+        });
     }
 
-    public NamespacedKey getKeyRecipeId() {
-        return keyRecipeId;
+    public void openCraftingMenu(Player player) {
+        openCraftingMenu(player, Page.FIRST);
     }
 
-    public NamespacedKey getKeyAction() {
-        return keyAction;
-    }
+    private void openCraftingMenu(Player player, Page page) {
+        if (!recipeManager.isReady()) {
+            player.sendMessage(ChatColor.YELLOW + "Recipes are still loading, the menu will open in a moment...");
+            recipeManager.whenReady().whenComplete((v, t) -> Bukkit.getScheduler().runTask(plugin, () -> {
+                if (player.isOnline()) openCraftingMenu(player, page);
+            }));
+            return;
+        }
 
-    public void openCraftingMenu(Player player) {
-        List<CustomRecipe> recipes = recipeManager.getAllRecipes();
-        int size = Math.min(54, ((recipes.size() + 8) / 9) * 9);
-        if (size < 9) size = 9;
+        InventoryDigest digest = plugin.getInventoryDigestCache().get(player);
+        List<CustomRecipe> craftableList = recipeManager.getCraftableRecipes(digest);
+        Set<String> craftable = ids(craftableList);
+
+        List<CustomRecipe> recipes = CRAFTABLE.equals(page.category()) ? craftableList : view(page.category());
+        boolean paged = hasTabs() || recipes.size() > 54;
+
+        int pageSize = paged ? PAGE_SIZE : 54;
+        int pages = Math.max(1, (recipes.size() + pageSize - 1) / pageSize);
+        int index = Math.max(0, Math.min(page.index(), pages - 1));
+        int from = index * pageSize;
+        int to = Math.min(recipes.size(), from + pageSize);
+
+        int size = paged ? 54 : Math.max(9, ((recipes.size() + 8) / 9) * 9);
 
         String rawTitle = plugin.getConfig().getString("settings.gui-title", "Custom Crafting");
         String coloredTitle = ChatColor.translateAlternateColorCodes('&', rawTitle);
         String title = clampTitle(ChatColor.DARK_PURPLE + coloredTitle, 32);
 
-        Inventory inv = Bukkit.createInventory(null, size, title);
+        Menu menu = new Menu(size, title);
+        Page current = new Page(page.category(), index);
 
-        for (int i = 0; i < recipes.size() && i < size; i++) {
+        String[] slotRecipes = new String[to - from];
+        for (int i = from; i < to; i++) {
             CustomRecipe recipe = recipes.get(i);
             if (recipe == null || recipe.getResult() == null) continue;
 
-            ItemStack displayItem = recipe.getResult().clone();
-            ItemMeta meta = displayItem.getItemMeta();
-            if (meta == null) continue;
+            String recipeId = recipe.getId();
+            slotRecipes[i - from] = recipeId;
+            menu.watch(recipeId);
+            menu.setButton(i - from, recipeIcon(recipe, craftable.contains(recipeId)), (p, click) -> openRecipeDetails(p, recipeId, current));
+        }
+        menu.setRefresh(viewer -> refreshPage(menu, viewer, slotRecipes));
 
-            if (!meta.hasDisplayName()) {
-                meta.setDisplayName(ChatColor.GREEN + recipe.getName());
-            }
+        if (paged) renderControls(menu, current, pages);
 
-            meta.getPersistentDataContainer().set(keyRecipeId, PersistentDataType.STRING, recipe.getId());
+        menu.open(player);
+    }
 
-            List<String> lore = meta.hasLore() ? new ArrayList<>(meta.getLore()) : new ArrayList<>();
+    private void refreshPage(Menu menu, Player viewer, String[] slotRecipes) {
+        Set<String> craftable = ids(recipeManager.getCraftableRecipes(plugin.getInventoryDigestCache().get(viewer)));
+        for (int slot = 0; slot < slotRecipes.length; slot++) {
+            if (slotRecipes[slot] == null) continue;
 
-            if (!lore.isEmpty()) lore.add("");
+            CustomRecipe recipe = recipeManager.getRecipe(slotRecipes[slot]);
+            if (recipe == null || recipe.getResult() == null) continue;
 
-            if (!recipe.canCraftMore()) {
-                lore.add(ChatColor.RED + "✗ Out of crafts");
-                lore.add(ChatColor.GREEN + "Click to view recipe");
-            } else {
-                boolean canCraft = recipeManager.canCraft(player.getInventory().getContents(), recipe);
-                if (canCraft) {
-                    lore.add(ChatColor.GREEN + "✓ You can craft this!");
-                    lore.add(ChatColor.GRAY + "Click to view & craft");
-                } else {
-                    lore.add(ChatColor.GREEN + "Click to view recipe");
-                }
-            }
+            menu.patch(slot, recipeIcon(recipe, craftable.contains(recipe.getId())));
+        }
+    }
 
-            lore.add("");
+    private static Set<String> ids(List<CustomRecipe> recipes) {
+        Set<String> out = new HashSet<>();
+        for (CustomRecipe r : recipes) out.add(r.getId());
+        return out;
+    }
 
-            if (recipe.isUnlimited()) {
-                lore.add(ChatColor.AQUA + "Craft Limit: " + ChatColor.WHITE + "Unlimited");
-            } else {
-                lore.add(ChatColor.AQUA + "Crafts Left: " + ChatColor.WHITE + recipe.remainingCrafts());
+    private boolean hasTabs() {
+        return craftableTab || !categories.isEmpty();
+    }
+
+    private ItemStack recipeIcon(CustomRecipe recipe, boolean craftable) {
+        List<String> lines = new ArrayList<>(4);
+        if (!recipe.canCraftMore()) {
+            lines.add(ChatColor.RED + "✗ Out of crafts");
+            lines.add(ChatColor.GREEN + "Click to view recipe");
+        } else if (craftable) {
+            lines.add(ChatColor.GREEN + "✓ You can craft this!");
+            lines.add(ChatColor.GRAY + "Click to view & craft");
+        } else {
+            lines.add(ChatColor.GREEN + "Click to view recipe");
+        }
+        lines.add("");
+        lines.add(craftLimitLine(recipe));
+
+        MenuTemplateCache.Template template = templates.get(recipe);
+        return MenuTemplateCache.stamp(template.getIcon(), template.getIconLore(), lines);
+    }
+
+    private void renderControls(Menu menu, Page page, int pages) {
+        ItemStack filler = button(Material.BLACK_STAINED_GLASS_PANE, " ", false);
+        for (int slot = PAGE_SIZE; slot < 54; slot++) menu.setItem(slot, filler);
+
+        if (page.index() > 0) {
+            menu.setButton(SLOT_PREV, button(Material.ARROW, ChatColor.YELLOW + "← Previous Page", false),
+                    (p, click) -> openCraftingMenu(p, new Page(page.category(), page.index() - 1)));
+        }
+        if (page.index() < pages - 1) {
+            menu.setButton(SLOT_NEXT, button(Material.ARROW, ChatColor.YELLOW + "Next Page →", false),
+                    (p, click) -> openCraftingMenu(p, new Page(page.category(), page.index() + 1)));
+        }
+        menu.setItem(SLOT_PAGE, button(Material.PAPER,
+                ChatColor.GOLD + "Page " + (page.index() + 1) + "/" + pages, false));
+
+        if (!hasTabs()) return;
+
+        menu.setButton(TAB_SLOTS[0], button(Material.CRAFTING_TABLE, ChatColor.GREEN + "All Recipes", page.category() == null),
+                (p, click) -> openCraftingMenu(p, Page.FIRST));
+
+        int tab = 1;
+        if (craftableTab) {
+            menu.setButton(TAB_SLOTS[tab++], button(Material.EMERALD, ChatColor.GREEN + "Craftable Now", CRAFTABLE.equals(page.category())),
+                    (p, click) -> openCraftingMenu(p, new Page(CRAFTABLE, 0)));
+        }
+        for (Category category : categories.values()) {
+            if (tab >= TAB_SLOTS.length) break;
+            boolean selected = category.key().equals(page.category());
+            menu.setButton(TAB_SLOTS[tab++], button(category.icon(), category.name(), selected),
+                    (p, click) -> openCraftingMenu(p, new Page(category.key(), 0)));
+        }
+    }
+
+    private List<CustomRecipe> view(String category) {
+        RecipeSnapshot current = recipeManager.getSnapshot();
+        if (category == null || !categories.containsKey(category)) return current.all();
+
+        if (viewSource != current) {
+            views.clear();
+            viewSource = current;
+        }
+        return views.computeIfAbsent(category, key -> {
+            Set<String> ids = categories.get(key).recipeIds();
+            List<CustomRecipe> out = new ArrayList<>();
+            for (CustomRecipe r : current.all()) {
+                if (ids.contains(r.getId())) out.add(r);
             }
+            return out;
+        });
+    }
 
-            meta.setLore(lore);
-            displayItem.setItemMeta(meta);
+    private Map<String, Category> loadCategories() {
+        Map<String, Category> out = new LinkedHashMap<>();
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("settings.categories");
+        if (section == null) return out;
+
+        for (String key : section.getKeys(false)) {
+            ConfigurationSection c = section.getConfigurationSection(key);
+            if (c == null) continue;
+
+            Material icon = Material.matchMaterial(c.getString("icon", "CHEST"));
+            if (icon == null || !icon.isItem()) icon = Material.CHEST;
+
+            String name = ChatColor.translateAlternateColorCodes('&', c.getString("name", key));
+            out.put(key, new Category(key, name, icon, new HashSet<>(c.getStringList("recipes"))));
+        }
+        return out;
+    }
 
-            inv.setItem(i, displayItem);
+    private ItemStack button(Material material, String name, boolean selected) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            meta.setDisplayName(name);
+            if (selected) meta.setEnchantmentGlintOverride(true);
+            item.setItemMeta(meta);
         }
+        return item;
+    }
 
-        player.openInventory(inv);
+    private void openRecipeDetails(Player player, String recipeId, Page page) {
+        CustomRecipe recipe = recipeManager.getRecipe(recipeId);
+        if (recipe == null) {
+            player.sendMessage(ChatColor.RED + "That recipe no longer exists.");
+            player.closeInventory();
+            return;
+        }
+        openRecipeDetails(player, recipe, page);
     }
 
     public void openRecipeDetails(Player player, CustomRecipe recipe) {
+        openRecipeDetails(player, recipe, Page.FIRST);
+    }
+
+    private void openRecipeDetails(Player player, CustomRecipe recipe, Page page) {
         String title = clampTitle(ChatColor.DARK_GREEN + "Craft: " + recipe.getName(), 32);
-        Inventory inv = Bukkit.createInventory(null, 54, title);
+        Menu menu = new Menu(54, title);
+
+        MenuTemplateCache.Template template = templates.get(recipe);
+        menu.setItem(SLOT_INFO, infoItem(template));
+        for (Map.Entry<Integer, ItemStack> e : template.getDetailItems().entrySet()) {
+            menu.setItem(e.getKey(), e.getValue());
+        }
+
+        boolean canCraft = recipeManager.canCraft(plugin.getInventoryDigestCache().get(player), recipe);
+
+        String recipeId = recipe.getId();
+        menu.setButton(SLOT_CRAFT, craftButton(recipe, canCraft), (p, click) -> craft(p, recipeId, craftAmount(click)));
 
-        inv.setItem(4, createInfoItem(recipe));
+        menu.setButton(SLOT_BACK, templates.getBackButton(), (p, click) -> openCraftingMenu(p, page));
 
-        int slot = 19;
-        if (recipe.getMaterials() != null) {
-            for (ItemStack material : recipe.getMaterials()) {
-                if (material != null && slot < 35) {
-                    inv.setItem(slot, material.clone());
-                    slot++;
+        MenuTemplateCache.Template[] rendered = {template};
+        menu.watch(recipeId);
+        menu.setRefresh(viewer -> {
+            CustomRecipe current = recipeManager.getRecipe(recipeId);
+            if (current == null) return;
+
+            MenuTemplateCache.Template latest = templates.get(current);
+            if (latest != rendered[0]) {
+                for (int slot : rendered[0].getDetailItems().keySet()) menu.patch(slot, null);
+                for (Map.Entry<Integer, ItemStack> e : latest.getDetailItems().entrySet()) {
+                    menu.patch(e.getKey(), e.getValue());
                 }
+                rendered[0] = latest;
             }
-        }
 
-        ItemStack result = recipe.getResult().clone();
-        ItemMeta meta = result.getItemMeta();
-        if (meta != null) {
-            meta.setDisplayName(ChatColor.GREEN + "Result");
-            result.setItemMeta(meta);
-        }
-        inv.setItem(40, result);
+            menu.patch(SLOT_INFO, infoItem(latest));
+            menu.patch(SLOT_CRAFT, craftButton(current,
+                    recipeManager.canCraft(plugin.getInventoryDigestCache().get(viewer), current)));
+        });
+
+        menu.open(player);
+    }
 
-        boolean canCraft = recipeManager.canCraft(player.getInventory().getContents(), recipe);
+    private ItemStack infoItem(MenuTemplateCache.Template template) {
+        return MenuTemplateCache.stamp(template.getInfo(), template.getInfoLore(),
+                List.of(craftLimitLine(template.getRecipe())));
+    }
 
+    private ItemStack craftButton(CustomRecipe recipe, boolean canCraft) {
         ItemStack craftButton = new ItemStack(canCraft ? Material.EMERALD_BLOCK : Material.REDSTONE_BLOCK);
         ItemMeta craftMeta = craftButton.getItemMeta();
         if (craftMeta != null) {
-            craftMeta.getPersistentDataContainer().set(keyAction, PersistentDataType.STRING, ACTION_CRAFT);
-            craftMeta.getPersistentDataContainer().set(keyRecipeId, PersistentDataType.STRING, recipe.getId());
-
             List<String> lore = new ArrayList<>();
 
             if (!recipe.canCraftMore()) {
@@ -141,83 +306,110 @@ public class CraftingGUI {
             } else if (canCraft) {
                 craftMeta.setDisplayName(ChatColor.GREEN + "✓ CRAFT");
                 lore.add(ChatColor.GRAY + "Click to craft this item!");
+                lore.add(ChatColor.GRAY + "Right-click to craft " + bulkAmount() + " at once");
+                lore.add(ChatColor.GRAY + "Shift-click to craft as many as you can");
             } else {
                 craftMeta.setDisplayName(ChatColor.RED + "✗ Cannot Craft");
                 lore.add(ChatColor.GRAY + "You don't have enough materials!");
             }
 
             lore.add("");
-
-            if (recipe.isUnlimited()) {
-                lore.add(ChatColor.AQUA + "Craft Limit: " + ChatColor.WHITE + "Unlimited");
-            } else {
-                lore.add(ChatColor.AQUA + "Crafts Left: " + ChatColor.WHITE + recipe.remainingCrafts());
-            }
+            lore.add(craftLimitLine(recipe));
 
             craftMeta.setLore(lore);
             craftButton.setItemMeta(craftMeta);
         }
-        inv.setItem(49, craftButton);
-
-        ItemStack backButton = new ItemStack(Material.ARROW);
-        ItemMeta backMeta = backButton.getItemMeta();
-        if (backMeta != null) {
-            backMeta.setDisplayName(ChatColor.YELLOW + "← Back");
-            backMeta.getPersistentDataContainer().set(keyAction, PersistentDataType.STRING, ACTION_BACK);
-            backButton.setItemMeta(backMeta);
-        }
-        inv.setItem(45, backButton);
+        return craftButton;
+    }
 
-        player.openInventory(inv);
+    private int bulkAmount() {
+        return Math.max(1, plugin.getConfig().getInt("settings.bulk-craft-amount", 8));
     }
 
-    private ItemStack createInfoItem(CustomRecipe recipe) {
-        ItemStack info = new ItemStack(Material.PAPER);
-        ItemMeta meta = info.getItemMeta();
-        if (meta != null) {
-            meta.setDisplayName(ChatColor.GOLD + recipe.getName());
+    private int craftAmount(ClickType click) {
+        int max = Math.max(1, plugin.getConfig().getInt("settings.bulk-craft-max", 64));
+        if (click.isShiftClick()) return max;
+        if (click.isRightClick()) return Math.min(max, bulkAmount());
+        return 1;
+    }
 
-            List<String> lore = new ArrayList<>();
-            lore.add(ChatColor.GRAY + "REQUIREMENTS:");
-
-            if (recipe.getMaterials() != null) {
-                for (ItemStack material : recipe.getMaterials()) {
-                    if (material != null) {
-                        lore.add(ChatColor.RED + "  " + material.getAmount() + "x " +
-                                formatMaterialName(material.getType()));
-                    }
-                }
-            }
+    private void craft(Player player, String recipeId, int amount) {
+        CustomRecipe recipe = recipeManager.getRecipe(recipeId);
+        if (recipe == null) {
+            player.sendMessage(ChatColor.RED + "That recipe no longer exists.");
+            player.closeInventory();
+            return;
+        }
 
-            lore.add("");
-            if (recipe.isUnlimited()) {
-                lore.add(ChatColor.AQUA + "Craft Limit: " + ChatColor.WHITE + "Unlimited");
-            } else {
-                lore.add(ChatColor.AQUA + "Crafts Left: " + ChatColor.WHITE + recipe.remainingCrafts());
-            }
+        if (!recipe.canCraftMore()) {
+            player.sendMessage(ChatColor.RED + "That recipe is out of crafts.");
+            refresher.markViewer(player.getUniqueId());
+            return;
+        }
 
-            meta.setLore(lore);
-            info.setItemMeta(meta);
+        CraftReservation reservation = recipeManager.tryCraftAndConsume(player.getInventory().getContents(), recipe, amount);
+        plugin.getInventoryDigestCache().invalidate(player);
+        if (reservation == null) {
+            if (!recipe.canCraftMore()) player.sendMessage(ChatColor.RED + "That recipe is out of crafts.");
+            else player.sendMessage(ChatColor.RED + "You don't have enough materials.");
+            return;
         }
-        return info;
+
+        refresher.markRecipe(recipeId);
+        UUID crafter = player.getUniqueId();
+        reservation.whenConfirmed(plugin, confirmed -> finishCraft(crafter, reservation, confirmed));
     }
 
-    private String formatMaterialName(Material material) {
-        String name = material.name().replace("_", " ");
-        String[] words = name.split(" ");
-        StringBuilder result = new StringBuilder();
-        for (String word : words) {
-            if (!word.isEmpty()) {
-                result.append(Character.toUpperCase(word.charAt(0)))
-                        .append(word.substring(1).toLowerCase())
-                        .append(" ");
+    // May run off the main thread while the plugin is stopping; DeliveryManager holds the items in that case
+    private void finishCraft(UUID crafter, CraftReservation reservation, boolean confirmed) {
+        CustomRecipe recipe = reservation.getRecipe();
+        boolean live = plugin.isEnabled() && Bukkit.isPrimaryThread();
+
+        if (!confirmed) {
+            recipeManager.rollbackCraft(crafter, reservation);
+            if (!live) return;
+
+            refresher.markRecipe(recipe.getId());
+            Player player = Bukkit.getPlayer(crafter);
+            if (player != null) {
+                plugin.getInventoryDigestCache().invalidate(player);
+                player.sendMessage(ChatColor.RED + "That recipe just ran out of crafts. Your materials were returned.");
+                player.updateInventory();
             }
+            return;
         }
-        return result.toString().trim();
+
+        ItemStack result = recipe.getResult();
+        long total = (long) result.getAmount() * reservation.getAmount();
+        DeliveryManager.Outcome outcome = plugin.getDeliveryManager().deliver(crafter, InventoryUtil.splitStacks(result, total));
+        if (!live) return;
+
+        Player player = Bukkit.getPlayer(crafter);
+        if (player == null) return;
+
+        if (outcome == DeliveryManager.Outcome.DROPPED) {
+            player.sendMessage(ChatColor.YELLOW + "Your inventory was full, so the rest was dropped on the ground.");
+        }
+        plugin.getInventoryDigestCache().invalidate(player);
+
+        recipeManager.announceCraft(player, recipe, reservation.getAmount());
+
+        player.updateInventory();
+    }
+
+    private String craftLimitLine(CustomRecipe recipe) {
+        if (recipe.isUnlimited()) return ChatColor.AQUA + "Craft Limit: " + ChatColor.WHITE + "Unlimited";
+        return ChatColor.AQUA + "Crafts Left: " + ChatColor.WHITE + recipe.remainingCrafts();
     }
 
     private String clampTitle(String title, int maxLen) {
         if (title == null) return "";
         return title.length() <= maxLen ? title : title.substring(0, maxLen);
     }
-}
\ No newline at end of file
+
+    private record Page(String category, int index) {
+        static final Page FIRST = new Page(null, 0);
+    }
+
+    private record Category(String key, String name, Material icon, Set<String> recipeIds) {}
+}
@@ -0,0 +1,97 @@
+package org.tekkabyte.eventPlugin.gui;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public class Menu implements InventoryHolder {
+
+    private final Inventory inventory;
+    private final MenuAction[] actions;
+    private final boolean[] editable;
+    private boolean playerInventoryEditable;
+
+    private final Set<String> watchedRecipes = new HashSet<>();
+    private Consumer<Player> refresh;
+
+    public Menu(int size, String title) {
+        this.inventory = Bukkit.createInventory(this, size, title);
+        this.actions = new MenuAction[size];
+        this.editable = new boolean[size];
+    }
+
+    @Override
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    public int getSize() {
+        return actions.length;
+    }
+
+    public void setItem(int slot, ItemStack item) {
+        inventory.setItem(slot, item);
+        actions[slot] = null;
+    }
+
+    public void setButton(int slot, ItemStack item, MenuAction action) {
+        inventory.setItem(slot, item);
+        actions[slot] = action;
+    }
+
+    public void patch(int slot, ItemStack item) {
+        ItemStack current = inventory.getItem(slot);
+        if (current == null ? item == null : current.equals(item)) return;
+        inventory.setItem(slot, item);
+    }
+
+    public MenuAction getAction(int slot) {
+        return slot >= 0 && slot < actions.length ? actions[slot] : null;
+    }
+
+    public void setEditable(int from, int to) {
+        for (int i = Math.max(0, from); i <= to && i < editable.length; i++) editable[i] = true;
+    }
+
+    public boolean isEditable(int slot) {
+        return slot >= 0 && slot < editable.length && editable[slot];
+    }
+
+    public void setPlayerInventoryEditable(boolean playerInventoryEditable) {
+        this.playerInventoryEditable = playerInventoryEditable;
+    }
+
+    public boolean isPlayerInventoryEditable() {
+        return playerInventoryEditable;
+    }
+
+    public void watch(String recipeId) {
+        if (recipeId != null) watchedRecipes.add(recipeId);
+    }
+
+    public Set<String> getWatchedRecipes() {
+        return watchedRecipes;
+    }
+
+    public void setRefresh(Consumer<Player> refresh) {
+        this.refresh = refresh;
+    }
+
+    public boolean isRefreshable() {
+        return refresh != null;
+    }
+
+    public void refresh(Player viewer) {
+        if (refresh != null) refresh.accept(viewer);
+    }
+
+    public void open(Player player) {
+        player.openInventory(inventory);
+    }
+}
@@ -0,0 +1,9 @@
+package org.tekkabyte.eventPlugin.gui;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+
+@FunctionalInterface
+public interface MenuAction {
+    void onClick(Player player, ClickType click);
+}
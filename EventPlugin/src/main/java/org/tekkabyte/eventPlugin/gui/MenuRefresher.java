@@ -0,0 +1,102 @@
+package org.tekkabyte.eventPlugin.gui;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.tekkabyte.eventPlugin.EventPlugin;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public class MenuRefresher {
+
+    private final EventPlugin plugin;
+    private final int budgetPerTick;
+
+    private final Map<UUID, Menu> open = new HashMap<>();
+    private final Map<String, Set<UUID>> viewersByRecipe = new HashMap<>();
+    private final Set<UUID> dirty = new LinkedHashSet<>();
+
+    private BukkitTask task;
+
+    public MenuRefresher(EventPlugin plugin) {
+        this.plugin = plugin;
+        this.budgetPerTick = Math.max(1, plugin.getConfig().getInt("settings.menu-refresh-per-tick", 20));
+    }
+
+    public void start() {
+        if (task == null) task = Bukkit.getScheduler().runTaskTimer(plugin, this::drain, 1L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        open.clear();
+        viewersByRecipe.clear();
+        dirty.clear();
+    }
+
+    public void track(UUID viewer, Menu menu) {
+        untrack(viewer);
+        if (!menu.isRefreshable()) return;
+
+        open.put(viewer, menu);
+        for (String id : menu.getWatchedRecipes()) {
+            viewersByRecipe.computeIfAbsent(id, k -> new HashSet<>()).add(viewer);
+        }
+    }
+
+    public void untrack(UUID viewer, Menu menu) {
+        if (open.get(viewer) == menu) untrack(viewer);
+    }
+
+    private void untrack(UUID viewer) {
+        Menu previous = open.remove(viewer);
+        dirty.remove(viewer);
+        if (previous == null) return;
+
+        for (String id : previous.getWatchedRecipes()) {
+            Set<UUID> viewers = viewersByRecipe.get(id);
+            if (viewers == null) continue;
+            viewers.remove(viewer);
+            if (viewers.isEmpty()) viewersByRecipe.remove(id);
+        }
+    }
+
+    public void markRecipe(String recipeId) {
+        Set<UUID> viewers = viewersByRecipe.get(recipeId);
+        if (viewers != null) dirty.addAll(viewers);
+    }
+
+    public void markViewer(UUID viewer) {
+        if (open.containsKey(viewer)) dirty.add(viewer);
+    }
+
+    private void drain() {
+        if (dirty.isEmpty()) return;
+
+        int budget = budgetPerTick;
+        Iterator<UUID> it = dirty.iterator();
+        while (it.hasNext() && budget-- > 0) {
+            UUID viewer = it.next();
+            it.remove();
+
+            Menu menu = open.get(viewer);
+            Player player = Bukkit.getPlayer(viewer);
+            if (menu == null || player == null
+                    || player.getOpenInventory().getTopInventory().getHolder(false) != menu) {
+                untrack(viewer);
+                continue;
+            }
+
+            menu.refresh(player);
+        }
+    }
+}
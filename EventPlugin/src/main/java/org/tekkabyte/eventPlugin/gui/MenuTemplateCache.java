@@ -0,0 +1,173 @@
+package org.tekkabyte.eventPlugin.gui;
+
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.tekkabyte.eventPlugin.models.CustomRecipe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class MenuTemplateCache {
+
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+    private final ItemStack backButton;
+
+    public MenuTemplateCache() {
+        this.backButton = new ItemStack(Material.ARROW);
+        ItemMeta meta = backButton.getItemMeta();
+        if (meta != null) {
+            meta.setDisplayName(ChatColor.YELLOW + "← Back");
+            backButton.setItemMeta(meta);
+        }
+    }
+
+    public Template get(CustomRecipe recipe) {
+        Template template = templates.get(recipe.getId());
+        if (template == null || template.recipe != recipe) {
+            template = new Template(recipe);
+            templates.put(recipe.getId(), template);
+        }
+        return template;
+    }
+
+    public void invalidate(String recipeId) {
+        if (recipeId != null) templates.remove(recipeId);
+    }
+
+    public void clear() {
+        templates.clear();
+    }
+
+    public ItemStack getBackButton() {
+        return backButton;
+    }
+
+    public static ItemStack stamp(ItemStack base, List<String> baseLore, List<String> lines) {
+        ItemStack out = base.clone();
+        ItemMeta meta = out.getItemMeta();
+        if (meta == null) return out;
+
+        List<String> lore = new ArrayList<>(baseLore.size() + lines.size());
+        lore.addAll(baseLore);
+        lore.addAll(lines);
+        meta.setLore(lore);
+        out.setItemMeta(meta);
+        return out;
+    }
+
+    public static final class Template {
+        private final CustomRecipe recipe;
+
+        private final ItemStack icon;
+        private final List<String> iconLore;
+
+        private final ItemStack info;
+        private final List<String> infoLore;
+
+        private final Map<Integer, ItemStack> detailItems;
+
+        private Template(CustomRecipe recipe) {
+            this.recipe = recipe;
+
+            ItemStack icon = recipe.getResult() == null ? new ItemStack(Material.BARRIER) : recipe.getResult().clone();
+            List<String> iconLore = new ArrayList<>();
+            ItemMeta iconMeta = icon.getItemMeta();
+            if (iconMeta != null) {
+                if (!iconMeta.hasDisplayName()) iconMeta.setDisplayName(ChatColor.GREEN + recipe.getName());
+                if (iconMeta.hasLore()) {
+                    iconLore.addAll(iconMeta.getLore());
+                    iconLore.add("");
+                }
+                icon.setItemMeta(iconMeta);
+            }
+            this.icon = icon;
+            this.iconLore = Collections.unmodifiableList(iconLore);
+
+            ItemStack info = new ItemStack(Material.PAPER);
+            List<String> infoLore = new ArrayList<>();
+            infoLore.add(ChatColor.GRAY + "REQUIREMENTS:");
+            if (recipe.getMaterials() != null) {
+                for (ItemStack material : recipe.getMaterials()) {
+                    if (material != null) {
+                        infoLore.add(ChatColor.RED + "  " + material.getAmount() + "x " +
+                                formatMaterialName(material.getType()));
+                    }
+                }
+            }
+            infoLore.add("");
+            ItemMeta infoMeta = info.getItemMeta();
+            if (infoMeta != null) {
+                infoMeta.setDisplayName(ChatColor.GOLD + recipe.getName());
+                info.setItemMeta(infoMeta);
+            }
+            this.info = info;
+            this.infoLore = Collections.unmodifiableList(infoLore);
+
+            Map<Integer, ItemStack> detail = new LinkedHashMap<>();
+            int slot = 19;
+            if (recipe.getMaterials() != null) {
+                for (ItemStack material : recipe.getMaterials()) {
+                    if (material != null && slot < 35) {
+                        detail.put(slot, material.clone());
+                        slot++;
+                    }
+                }
+            }
+
+            if (recipe.getResult() != null) {
+                ItemStack result = recipe.getResult().clone();
+                ItemMeta meta = result.getItemMeta();
+                if (meta != null) {
+                    meta.setDisplayName(ChatColor.GREEN + "Result");
+                    result.setItemMeta(meta);
+                }
+                detail.put(CraftingGUI.SLOT_RESULT, result);
+            }
+            this.detailItems = Collections.unmodifiableMap(detail);
+        }
+
+        public CustomRecipe getRecipe() {
+            return recipe;
+        }
+
+        public ItemStack getIcon() {
+            return icon;
+        }
+
+        public List<String> getIconLore() {
+            return iconLore;
+        }
+
+        public ItemStack getInfo() {
+            return info;
+        }
+
+        public List<String> getInfoLore() {
+            return infoLore;
+        }
+
+        public Map<Integer, ItemStack> getDetailItems() {
+            return detailItems;
+        }
+    }
+
+    private static String formatMaterialName(Material material) {
+        String name = material.name().replace("_", " ");
+        String[] words = name.split(" ");
+        StringBuilder result = new StringBuilder();
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                result.append(Character.toUpperCase(word.charAt(0)))
+                        .append(word.substring(1).toLowerCase())
+                        .append(" ");
+            }
+        }
+        return result.toString().trim();
+    }
+}
@@ -0,0 +1,152 @@
+package org.tekkabyte.eventPlugin.listeners;
+
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.*;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
+import org.bukkit.event.world.StructureGrowEvent;
+import org.tekkabyte.eventPlugin.EventPlugin;
+import org.tekkabyte.eventPlugin.events.TournamentEvent;
+
+import java.util.List;
+
+public class ArenaTrackingListener implements Listener {
+    private final EventPlugin plugin;
+
+    public ArenaTrackingListener(EventPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    private void track(Block block) {
+        if (plugin.getEventManager().getActiveEvent() instanceof TournamentEvent tournament) {
+            tournament.trackBlockChange(block);
+        }
+    }
+
+    private void trackAll(List<Block> blocks) {
+        if (!(plugin.getEventManager().getActiveEvent() instanceof TournamentEvent tournament)) return;
+        for (Block b : blocks) tournament.trackBlockChange(b);
+    }
+
+    private void trackStates(List<BlockState> states) {
+        if (!(plugin.getEventManager().getActiveEvent() instanceof TournamentEvent tournament)) return;
+        for (BlockState s : states) tournament.trackBlockChange(s.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBreak(BlockBreakEvent event) {
+        track(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlace(BlockPlaceEvent event) {
+        track(event.getBlock());
+        if (event instanceof BlockMultiPlaceEvent multi) trackStates(multi.getReplacedBlockStates());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBurn(BlockBurnEvent event) {
+        track(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onIgnite(BlockIgniteEvent event) {
+        track(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFade(BlockFadeEvent event) {
+        track(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onForm(BlockFormEvent event) {
+        track(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSpread(BlockSpreadEvent event) {
+        track(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onGrow(BlockGrowEvent event) {
+        track(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFlow(BlockFromToEvent event) {
+        track(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDecay(LeavesDecayEvent event) {
+        track(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFertilize(BlockFertilizeEvent event) {
+        trackStates(event.getBlocks());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onStructureGrow(StructureGrowEvent event) {
+        trackStates(event.getBlocks());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        track(event.getBlock());
+        trackAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        trackAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        track(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(PlayerBucketEmptyEvent event) {
+        track(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFill(PlayerBucketFillEvent event) {
+        track(event.getBlockClicked());
+        track(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        trackPiston(event.getBlock(), event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        trackPiston(event.getBlock(), event.getBlocks(), event.getDirection());
+    }
+
+    private void trackPiston(Block piston, List<Block> moved, BlockFace direction) {
+        if (!(plugin.getEventManager().getActiveEvent() instanceof TournamentEvent tournament)) return;
+
+        tournament.trackBlockChange(piston);
+        tournament.trackBlockChange(piston.getRelative(direction));
+        tournament.trackBlockChange(piston.getRelative(direction.getOppositeFace()));
+        for (Block b : moved) {
+            tournament.trackBlockChange(b);
+            tournament.trackBlockChange(b.getRelative(direction));
+        }
+    }
+}
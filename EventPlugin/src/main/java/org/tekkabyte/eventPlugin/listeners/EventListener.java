@@ -10,6 +10,8 @@ import org.bukkit.event.player.PlayerQuitEvent;
 import org.tekkabyte.eventPlugin.EventPlugin;
 import org.tekkabyte.eventPlugin.events.BaseEvent;
 
+import java.util.List;
+
 public class EventListener implements Listener {
     private final EventPlugin plugin;
 
@@ -20,6 +22,8 @@ public class EventListener implements Listener {
     @EventHandler
     public void onJoin(PlayerJoinEvent event) {
         plugin.getEventManager().restoreIfStale(event.getPlayer());
+        plugin.getDeliveryManager().deliverHeld(event.getPlayer());
+        plugin.getRatingManager().preload(List.of(event.getPlayer().getUniqueId()));
 
         if (!plugin.getEventManager().isEventActive()) {
             World main = Bukkit.getWorlds().get(0);
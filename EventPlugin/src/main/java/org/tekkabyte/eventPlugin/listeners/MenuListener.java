@@ -0,0 +1,86 @@
+package org.tekkabyte.eventPlugin.listeners;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.tekkabyte.eventPlugin.gui.Menu;
+import org.tekkabyte.eventPlugin.gui.MenuAction;
+import org.tekkabyte.eventPlugin.gui.MenuRefresher;
+
+public class MenuListener implements Listener {
+
+    private final MenuRefresher refresher;
+
+    public MenuListener(MenuRefresher refresher) {
+        this.refresher = refresher;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onOpen(InventoryOpenEvent e) {
+        if (e.getInventory().getHolder(false) instanceof Menu menu) {
+            refresher.track(e.getPlayer().getUniqueId(), menu);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onClose(InventoryCloseEvent e) {
+        if (e.getInventory().getHolder(false) instanceof Menu menu) {
+            refresher.untrack(e.getPlayer().getUniqueId(), menu);
+        }
+    }
+
+    @EventHandler
+    public void onClick(InventoryClickEvent e) {
+        if (!(e.getView().getTopInventory().getHolder(false) instanceof Menu menu)) return;
+
+        e.setCancelled(true);
+        if (!(e.getWhoClicked() instanceof Player player)) return;
+
+        int slot = e.getRawSlot();
+        if (slot < 0) return;
+
+        if (slot >= menu.getSize()) {
+            if (menu.isPlayerInventoryEditable() && isPlainClick(e)) e.setCancelled(false);
+            return;
+        }
+
+        MenuAction action = menu.getAction(slot);
+        if (action != null) {
+            action.onClick(player, e.getClick());
+            return;
+        }
+
+        if (menu.isEditable(slot) && isPlainClick(e)) e.setCancelled(false);
+    }
+
+    @EventHandler
+    public void onDrag(InventoryDragEvent e) {
+        if (!(e.getView().getTopInventory().getHolder(false) instanceof Menu menu)) return;
+
+        for (int rawSlot : e.getRawSlots()) {
+            boolean ok = rawSlot < menu.getSize() ? menu.isEditable(rawSlot) : menu.isPlayerInventoryEditable();
+            if (!ok) {
+                e.setCancelled(true);
+                return;
+            }
+        }
+    }
+
+    private boolean isPlainClick(InventoryClickEvent e) {
+        if (e.isShiftClick()) return false;
+
+        switch (e.getAction()) {
+            case COLLECT_TO_CURSOR:
+            case MOVE_TO_OTHER_INVENTORY:
+            case HOTBAR_SWAP:
+                return false;
+            default:
+                return true;
+        }
+    }
+}
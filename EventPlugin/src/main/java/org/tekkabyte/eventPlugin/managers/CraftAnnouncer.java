@@ -0,0 +1,176 @@
+package org.tekkabyte.eventPlugin.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.scheduler.BukkitTask;
+import org.tekkabyte.eventPlugin.EventPlugin;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+public class CraftAnnouncer {
+
+    private static final String PREFIX = "§x§F§F§C§B§4§0✦ EVENT CRAFT ✦ " + ChatColor.WHITE;
+    private static final int MAX_LISTED = 5;
+
+    private final EventPlugin plugin;
+
+    private final Map<String, Entry> pending = new LinkedHashMap<>();
+    private final Deque<UUID> soundQueue = new ArrayDeque<>();
+    private BukkitTask flushTask;
+    private BukkitTask soundTask;
+
+    public CraftAnnouncer(EventPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public void announce(Player crafter, ItemStack result, int times) {
+        if (times <= 0) return;
+
+        String itemName = prettyItemName(result);
+        String key = (crafter == null ? "" : crafter.getUniqueId().toString()) + '|' + itemName;
+
+        Entry entry = pending.get(key);
+        if (entry == null) {
+            entry = new Entry(crafter == null ? null : crafter.getName(), itemName);
+            pending.put(key, entry);
+        }
+        entry.times += times;
+        if (crafter != null) entry.location = crafter.getLocation();
+
+        long window = Math.max(0L, plugin.getConfig().getLong("announcements.window-ticks", 40L));
+        if (window == 0L) {
+            flush();
+        } else if (flushTask == null) {
+            flushTask = Bukkit.getScheduler().runTaskLater(plugin, this::flush, window);
+        }
+    }
+
+    public void flush() {
+        flushTask = null;
+        if (pending.isEmpty()) return;
+
+        List<Entry> batch = new ArrayList<>(pending.values());
+        pending.clear();
+
+        Bukkit.broadcastMessage(PREFIX + describe(batch));
+        queueSound(batch);
+    }
+
+    public void shutdown() {
+        if (flushTask != null) flushTask.cancel();
+        if (soundTask != null) soundTask.cancel();
+        soundTask = null;
+        soundQueue.clear();
+
+        if (!pending.isEmpty()) {
+            List<Entry> batch = new ArrayList<>(pending.values());
+            pending.clear();
+            Bukkit.broadcastMessage(PREFIX + describe(batch));
+        }
+        flushTask = null;
+    }
+
+    private String describe(List<Entry> batch) {
+        if (batch.size() == 1) return describe(batch.get(0)) + "!";
+
+        StringBuilder sb = new StringBuilder();
+        int listed = Math.min(MAX_LISTED, batch.size());
+        for (int i = 0; i < listed; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(describe(batch.get(i)));
+        }
+        if (batch.size() > listed) sb.append(" and ").append(batch.size() - listed).append(" more");
+        return sb.append('!').toString();
+    }
+
+    private String describe(Entry entry) {
+        String amount = entry.times > 1 ? entry.times + "x " : "";
+        if (entry.crafterName != null) {
+            return entry.crafterName + " crafted " + (entry.times > 1 ? amount : "the ") + entry.itemName;
+        }
+        return "An item was crafted: " + amount + entry.itemName;
+    }
+
+    private void queueSound(List<Entry> batch) {
+        String scope = plugin.getConfig().getString("announcements.sound-scope", "SERVER").toUpperCase(Locale.ROOT);
+        double radius = plugin.getConfig().getDouble("announcements.sound-radius", 64.0);
+        double radiusSq = radius * radius;
+
+        for (Player p : Bukkit.getOnlinePlayers()) {
+            if (scope.equals("SERVER") || inScope(p, batch, scope.equals("RADIUS"), radiusSq)) {
+                soundQueue.add(p.getUniqueId());
+            }
+        }
+
+        if (soundTask == null && !soundQueue.isEmpty()) {
+            soundTask = Bukkit.getScheduler().runTaskTimer(plugin, this::drainSounds, 0L, 1L);
+        }
+    }
+
+    private boolean inScope(Player player, List<Entry> batch, boolean radius, double radiusSq) {
+        Location at = player.getLocation();
+        World world = at.getWorld();
+
+        for (Entry entry : batch) {
+            if (entry.location == null || entry.location.getWorld() != world) continue;
+            if (!radius || entry.location.distanceSquared(at) <= radiusSq) return true;
+        }
+        return false;
+    }
+
+    private void drainSounds() {
+        int budget = Math.max(1, plugin.getConfig().getInt("announcements.sounds-per-tick", 20));
+        while (budget-- > 0 && !soundQueue.isEmpty()) {
+            Player p = Bukkit.getPlayer(soundQueue.poll());
+            if (p != null) p.playSound(p.getLocation(), Sound.ENTITY_WITHER_SPAWN, 1.0f, 1.0f);
+        }
+
+        if (soundQueue.isEmpty() && soundTask != null) {
+            soundTask.cancel();
+            soundTask = null;
+        }
+    }
+
+    private String prettyItemName(ItemStack item) {
+        if (item == null) return "Unknown Item";
+
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null && meta.hasDisplayName()) {
+            return meta.getDisplayName();
+        }
+
+        String type = item.getType().name().toLowerCase(Locale.ROOT).replace('_', ' ');
+        String[] parts = type.split(" ");
+        StringBuilder sb = new StringBuilder();
+        for (String part : parts) {
+            if (part.isEmpty()) continue;
+            sb.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1)).append(' ');
+        }
+        return sb.toString().trim();
+    }
+
+    private static final class Entry {
+        final String crafterName;
+        final String itemName;
+        int times;
+        Location location;
+
+        Entry(String crafterName, String itemName) {
+            this.crafterName = crafterName;
+            this.itemName = itemName;
+        }
+    }
+}
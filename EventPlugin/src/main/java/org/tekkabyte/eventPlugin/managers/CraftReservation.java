@@ -0,0 +1,56 @@
+package org.tekkabyte.eventPlugin.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.bukkit.plugin.Plugin;
+import org.tekkabyte.eventPlugin.models.CustomRecipe;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+public final class CraftReservation {
+
+    private final CustomRecipe recipe;
+    private final int amount;
+    private final CompletableFuture<Boolean> persisted;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    CraftReservation(CustomRecipe recipe, int amount, CompletableFuture<Boolean> persisted) {
+        this.recipe = recipe;
+        this.amount = amount;
+        this.persisted = persisted;
+    }
+
+    public CustomRecipe getRecipe() {
+        return recipe;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public void release() {
+        if (released.compareAndSet(false, true)) recipe.releaseCrafts(amount);
+    }
+
+    public void whenConfirmed(Plugin plugin, Consumer<Boolean> action) {
+        if (persisted.isDone() && Bukkit.isPrimaryThread()) {
+            action.accept(persisted.getNow(false));
+            return;
+        }
+
+        persisted.handle((ok, t) -> ok != null && ok).thenAccept(ok -> {
+            // while the plugin is stopping nothing can be scheduled, so the action runs here and has to cope off-thread
+            if (!plugin.isEnabled()) {
+                action.accept(ok);
+                return;
+            }
+            try {
+                Bukkit.getScheduler().runTask(plugin, () -> action.accept(ok));
+            } catch (IllegalPluginAccessException e) {
+                action.accept(ok);
+            }
+        });
+    }
+}
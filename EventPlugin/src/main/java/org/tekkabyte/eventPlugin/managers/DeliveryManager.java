@@ -0,0 +1,90 @@
+package org.tekkabyte.eventPlugin.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.tekkabyte.eventPlugin.EventPlugin;
+import org.tekkabyte.eventPlugin.database.DatabaseManager;
+import org.tekkabyte.eventPlugin.utils.InventoryUtil;
+import org.tekkabyte.eventPlugin.utils.ItemStackCodec;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class DeliveryManager {
+
+    public enum Outcome { GIVEN, DROPPED, HELD }
+
+    private final EventPlugin plugin;
+    private final DatabaseManager databaseManager;
+
+    // Craft results and refunds for players who were offline (or the plugin was stopping) when they came due
+    private final Map<UUID, List<Held>> held = new ConcurrentHashMap<>();
+
+    public DeliveryManager(EventPlugin plugin, DatabaseManager databaseManager) {
+        this.plugin = plugin;
+        this.databaseManager = databaseManager;
+    }
+
+    public void load() {
+        int unreadable = 0;
+        for (DatabaseManager.HeldDeliveryEntry entry : databaseManager.loadHeldDeliveries()) {
+            ItemStack[] items = ItemStackCodec.decodeSlots(entry.items());
+            if (items == null) {
+                // left in the table untouched so it can be recovered by hand
+                plugin.getLogger().warning("[Delivery] Held delivery " + entry.id() + " for " + entry.owner() + " could not be decoded.");
+                unreadable++;
+                continue;
+            }
+            held.computeIfAbsent(entry.owner(), u -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(new Held(entry.id(), items));
+        }
+
+        if (!held.isEmpty()) {
+            plugin.getLogger().info("[Delivery] " + held.size() + " player(s) have held items waiting for their next join.");
+        }
+        if (unreadable > 0) {
+            plugin.getLogger().warning("[Delivery] " + unreadable + " held deliveries could not be read and were left in the database.");
+        }
+    }
+
+    // Safe from any thread: anything that can't be put in a live inventory on the main thread is held and persisted
+    public Outcome deliver(UUID uuid, List<ItemStack> stacks) {
+        if (stacks.isEmpty()) return Outcome.GIVEN;
+
+        if (plugin.isEnabled() && Bukkit.isPrimaryThread()) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null && player.isOnline()) {
+                return InventoryUtil.giveOrDrop(player, stacks) ? Outcome.DROPPED : Outcome.GIVEN;
+            }
+        }
+
+        Held h = new Held(UUID.randomUUID().toString(), stacks.toArray(new ItemStack[0]));
+        held.computeIfAbsent(uuid, u -> Collections.synchronizedList(new ArrayList<>())).add(h);
+        databaseManager.saveHeldDelivery(h.id(), uuid, ItemStackCodec.encodeSlots(h.items()));
+        return Outcome.HELD;
+    }
+
+    public void deliverHeld(Player player) {
+        List<Held> waiting = held.remove(player.getUniqueId());
+        if (waiting == null) return;
+
+        List<ItemStack> stacks = new ArrayList<>();
+        synchronized (waiting) {
+            for (Held h : waiting) {
+                for (ItemStack it : h.items()) {
+                    if (it != null && !it.getType().isAir()) stacks.add(it);
+                }
+                databaseManager.deleteHeldDelivery(h.id());
+            }
+        }
+
+        boolean dropped = InventoryUtil.giveOrDrop(player, stacks);
+        player.sendMessage(ChatColor.GREEN + "You received items from crafts that finished while you were away.");
+        if (dropped) player.sendMessage(ChatColor.YELLOW + "Your inventory was full, so the rest was dropped on the ground.");
+        plugin.getInventoryDigestCache().invalidate(player);
+    }
+
+    private record Held(String id, ItemStack[] items) {}
+}
@@ -30,9 +30,8 @@ public class EventManager {
         if (activeEvent != null) return;
 
         TournamentEvent ev = new TournamentEvent(plugin);
-        TournamentEvent.Mode mode = TournamentEvent.Mode.ONE_V_ONE;
-        if (modeStr != null && modeStr.equalsIgnoreCase("2v2")) mode = TournamentEvent.Mode.TWO_V_TWO;
-        ev.setMode(mode);
+        int teamSize = TournamentEvent.parseTeamSize(modeStr);
+        ev.setTeamSize(teamSize == 0 ? 1 : teamSize);
 
         activeEvent = ev;
         activeEvent.create();
@@ -49,6 +48,7 @@ public class EventManager {
         for (UUID uuid : new HashSet<>(eventPlayers)) {
             Player p = Bukkit.getPlayer(uuid);
             if (p != null) removePlayer(p);
+            else if (savedStates.containsKey(uuid)) plugin.getStateJournal().defer(uuid, savedStates.get(uuid));
         }
 
         activeEvent.end();
@@ -73,8 +73,10 @@ public class EventManager {
         UUID uuid = player.getUniqueId();
         if (eventPlayers.contains(uuid)) return;
 
-        savedStates.put(uuid, new PlayerState(player));
+        PlayerState state = new PlayerState(player);
+        savedStates.put(uuid, state);
         eventPlayers.add(uuid);
+        plugin.getStateJournal().record(player, state);
 
         activeEvent.onPlayerJoin(player);
     }
@@ -87,14 +89,27 @@ public class EventManager {
 
         PlayerState st = savedStates.remove(uuid);
         if (st != null) st.restore(player);
+        plugin.getStateJournal().remove(uuid);
     }
 
     public void restoreIfStale(Player player) {
+        UUID uuid = player.getUniqueId();
+
+        PlayerState recovered = plugin.getStateJournal().takeRecovered(uuid);
+        if (recovered != null && !eventPlayers.contains(uuid)) {
+            recovered.restore(player);
+            plugin.getStateJournal().remove(uuid);
+            player.sendMessage(plugin.getMessage("state-recovered"));
+            return;
+        }
+
         if (isEventActive()) return;
 
-        UUID uuid = player.getUniqueId();
         PlayerState st = savedStates.remove(uuid);
-        if (st != null) st.restore(player);
+        if (st != null) {
+            st.restore(player);
+            plugin.getStateJournal().remove(uuid);
+        }
         eventPlayers.remove(uuid);
     }
 
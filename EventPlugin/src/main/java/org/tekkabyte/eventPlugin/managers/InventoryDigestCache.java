@@ -0,0 +1,51 @@
+package org.tekkabyte.eventPlugin.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.tekkabyte.eventPlugin.EventPlugin;
+import org.tekkabyte.eventPlugin.models.InventoryDigest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class InventoryDigestCache {
+
+    private final long maxAgeTicks;
+    private final Map<UUID, InventoryDigest> digests = new HashMap<>();
+    private final List<Consumer<UUID>> invalidationListeners = new ArrayList<>();
+
+    public InventoryDigestCache(EventPlugin plugin) {
+        this.maxAgeTicks = plugin.getConfig().getLong("settings.inventory-digest-max-age-ticks", 100L);
+    }
+
+    public InventoryDigest get(Player player) {
+        long now = Bukkit.getCurrentTick();
+        InventoryDigest digest = digests.get(player.getUniqueId());
+        if (digest != null && now - digest.getCreatedTick() <= maxAgeTicks) return digest;
+
+        digest = InventoryDigest.of(player.getInventory().getContents(), now);
+        digests.put(player.getUniqueId(), digest);
+        return digest;
+    }
+
+    public void invalidate(UUID uuid) {
+        digests.remove(uuid);
+        for (Consumer<UUID> listener : invalidationListeners) listener.accept(uuid);
+    }
+
+    public void addInvalidationListener(Consumer<UUID> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    public void invalidate(Player player) {
+        invalidate(player.getUniqueId());
+    }
+
+    public void clear() {
+        digests.clear();
+    }
+}
@@ -1,11 +1,18 @@
 package org.tekkabyte.eventPlugin.managers;
 
+import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
+import org.tekkabyte.eventPlugin.utils.ItemStackCodec;
+
+import java.io.*;
 
 public class PlayerState {
+    private static final byte FORMAT_VERSION = 1;
+
     private final Location location;
     private final GameMode gameMode;
     private final double health;
@@ -22,6 +29,15 @@ public class PlayerState {
         this.armor = p.getInventory().getArmorContents();
     }
 
+    private PlayerState(Location location, GameMode gameMode, double health, int food, ItemStack[] contents, ItemStack[] armor) {
+        this.location = location;
+        this.gameMode = gameMode;
+        this.health = health;
+        this.food = food;
+        this.contents = contents;
+        this.armor = armor;
+    }
+
     public void restore(Player p) {
         p.getInventory().clear();
         p.getInventory().setContents(contents);
@@ -31,4 +47,84 @@ public class PlayerState {
         p.setFoodLevel(food);
         p.teleport(location);
     }
+
+    public PlayerState withLocation(Location location) {
+        if (location == null || location.getWorld() == null) return this;
+        return new PlayerState(location.clone(), gameMode, health, food, contents, armor);
+    }
+
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(encodeLocation(location));
+            out.writeUTF(gameMode.name());
+            out.writeDouble(health);
+            out.writeInt(food);
+            writeBlob(out, ItemStackCodec.encodeSlots(contents));
+            writeBlob(out, ItemStackCodec.encodeSlots(armor));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static PlayerState decode(byte[] data) {
+        if (data == null || data.length == 0 || data[0] != FORMAT_VERSION) return null;
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            in.readByte();
+            Location location = decodeLocation(in.readUTF());
+            GameMode gameMode = GameMode.valueOf(in.readUTF());
+            double health = in.readDouble();
+            int food = in.readInt();
+            ItemStack[] contents = ItemStackCodec.decodeSlots(readBlob(in));
+            ItemStack[] armor = ItemStackCodec.decodeSlots(readBlob(in));
+            if (contents == null || armor == null || in.available() > 0) return null;
+
+            if (location == null) {
+                World main = Bukkit.getWorlds().isEmpty() ? null : Bukkit.getWorlds().get(0);
+                if (main == null) return null;
+                location = main.getSpawnLocation();
+            }
+            return new PlayerState(location, gameMode, health, food, contents, armor);
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static String encodeLocation(Location loc) {
+        World w = loc.getWorld();
+        return (w == null ? "" : w.getName()) + ";" + loc.getX() + ";" + loc.getY() + ";" + loc.getZ()
+                + ";" + loc.getYaw() + ";" + loc.getPitch();
+    }
+
+    // Returns null when the world is gone (event worlds are deleted when an event ends)
+    public static Location decodeLocation(String text) {
+        if (text == null) return null;
+        String[] parts = text.split(";");
+        if (parts.length != 6) return null;
+
+        World w = Bukkit.getWorld(parts[0]);
+        if (w == null) return null;
+        try {
+            return new Location(w, Double.parseDouble(parts[1]), Double.parseDouble(parts[2]), Double.parseDouble(parts[3]),
+                    Float.parseFloat(parts[4]), Float.parseFloat(parts[5]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void writeBlob(DataOutputStream out, byte[] blob) throws IOException {
+        out.writeInt(blob.length);
+        out.write(blob);
+    }
+
+    private static byte[] readBlob(DataInputStream in) throws IOException {
+        int len = in.readInt();
+        if (len < 0 || len > in.available()) throw new IOException("Truncated item data");
+        byte[] blob = new byte[len];
+        in.readFully(blob);
+        return blob;
+    }
 }
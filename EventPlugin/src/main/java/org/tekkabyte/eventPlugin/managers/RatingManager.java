@@ -0,0 +1,151 @@
+package org.tekkabyte.eventPlugin.managers;
+
+import org.bukkit.Bukkit;
+import org.tekkabyte.eventPlugin.EventPlugin;
+import org.tekkabyte.eventPlugin.database.DatabaseManager;
+import org.tekkabyte.eventPlugin.models.PlayerRating;
+
+import java.util.*;
+
+public class RatingManager {
+
+    private final EventPlugin plugin;
+    private final DatabaseManager databaseManager;
+
+    private final double initialRating;
+    private final double kFactor;
+    private final int provisionalMatches;
+
+    private final Map<UUID, PlayerRating> cache;
+    private final Set<UUID> loading = new HashSet<>();
+    private final Map<UUID, Long> failedAt = new HashMap<>();
+    // Results for players whose stored rating isn't loaded yet; also persisted and applied once it loads
+    private final Map<UUID, List<Result>> deferred = new HashMap<>();
+
+    private static final long RETRY_DELAY_MS = 5_000L;
+
+    public RatingManager(EventPlugin plugin, DatabaseManager databaseManager) {
+        this.plugin = plugin;
+        this.databaseManager = databaseManager;
+
+        this.initialRating = plugin.getConfig().getDouble("ratings.initial", 1000.0);
+        this.kFactor = plugin.getConfig().getDouble("ratings.k-factor", 32.0);
+        this.provisionalMatches = plugin.getConfig().getInt("ratings.provisional-matches", 10);
+
+        int capacity = Math.max(16, plugin.getConfig().getInt("ratings.cache-size", 512));
+        this.cache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, PlayerRating> eldest) {
+                return size() > capacity && Bukkit.getPlayer(eldest.getKey()) == null;
+            }
+        };
+    }
+
+    public void preload(Collection<UUID> uuids) {
+        List<UUID> missing = new ArrayList<>();
+        for (UUID uuid : uuids) {
+            if (!cache.containsKey(uuid) && loading.add(uuid)) missing.add(uuid);
+        }
+        if (missing.isEmpty()) return;
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            Map<UUID, PlayerRating> loaded = databaseManager.loadRatings(missing);
+            Map<UUID, List<DatabaseManager.RatingResultEntry>> stored = loaded == null ? null : databaseManager.loadRatingResults(missing);
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                missing.forEach(loading::remove);
+                if (loaded == null || stored == null) {
+                    // nothing is cached, so no default ever overwrites a stored rating; get() retries after a short delay
+                    long now = System.currentTimeMillis();
+                    missing.forEach(uuid -> failedAt.put(uuid, now));
+                    plugin.getLogger().warning("[Ratings] Could not load " + missing.size() + " rating(s); retrying on the next lookup after "
+                            + (RETRY_DELAY_MS / 1000) + "s.");
+                    return;
+                }
+
+                for (UUID uuid : missing) {
+                    failedAt.remove(uuid);
+                    cache.putIfAbsent(uuid, loaded.getOrDefault(uuid, PlayerRating.initial(uuid, initialRating)));
+                    applyDeferred(uuid, stored.getOrDefault(uuid, List.of()));
+                }
+            });
+        });
+    }
+
+    public PlayerRating get(UUID uuid) {
+        PlayerRating rating = cache.get(uuid);
+        if (rating != null) return rating;
+
+        Long failed = failedAt.get(uuid);
+        if (failed == null || System.currentTimeMillis() - failed >= RETRY_DELAY_MS) preload(List.of(uuid));
+        return PlayerRating.initial(uuid, initialRating);
+    }
+
+    public double getRating(UUID uuid) {
+        return get(uuid).rating();
+    }
+
+    public double averageRating(Collection<UUID> uuids) {
+        if (uuids.isEmpty()) return initialRating;
+        double sum = 0;
+        for (UUID uuid : uuids) sum += getRating(uuid);
+        return sum / uuids.size();
+    }
+
+    public List<UUID> rank(Collection<UUID> uuids) {
+        Map<UUID, Double> ratings = new HashMap<>();
+        for (UUID uuid : uuids) ratings.put(uuid, getRating(uuid));
+
+        List<UUID> ranked = new ArrayList<>(uuids);
+        Collections.shuffle(ranked);
+        ranked.sort((a, b) -> Double.compare(ratings.get(b), ratings.get(a)));
+        return ranked;
+    }
+
+    public void recordMatch(List<UUID> winners, List<UUID> losers) {
+        if (winners.isEmpty() || losers.isEmpty()) return;
+
+        double expected = 1.0 / (1.0 + Math.pow(10.0, (averageRating(losers) - averageRating(winners)) / 400.0));
+        double swing = 1.0 - expected;
+
+        for (UUID uuid : winners) update(uuid, swing, true);
+        for (UUID uuid : losers) update(uuid, -swing, false);
+    }
+
+    private void update(UUID uuid, double score, boolean won) {
+        PlayerRating current = cache.get(uuid);
+        if (current == null) {
+            Result result = new Result(UUID.randomUUID().toString(), score, won, System.currentTimeMillis());
+            deferred.computeIfAbsent(uuid, u -> new ArrayList<>()).add(result);
+            databaseManager.saveRatingResult(result.id(), uuid, score, won, result.createdAt());
+            preload(List.of(uuid));
+            return;
+        }
+        apply(current, score, won);
+    }
+
+    // Merges results persisted by earlier sessions with ones still in memory, then applies them oldest first
+    private void applyDeferred(UUID uuid, List<DatabaseManager.RatingResultEntry> stored) {
+        Map<String, Result> pending = new LinkedHashMap<>();
+        for (DatabaseManager.RatingResultEntry e : stored) pending.put(e.id(), new Result(e.id(), e.score(), e.won(), e.createdAt()));
+        List<Result> inMemory = deferred.remove(uuid);
+        if (inMemory != null) for (Result r : inMemory) pending.putIfAbsent(r.id(), r);
+        if (pending.isEmpty()) return;
+
+        List<Result> ordered = new ArrayList<>(pending.values());
+        ordered.sort(Comparator.comparingLong(Result::createdAt));
+        for (Result r : ordered) {
+            apply(cache.get(uuid), r.score(), r.won());
+            databaseManager.deleteRatingResult(r.id());
+        }
+    }
+
+    private void apply(PlayerRating current, double score, boolean won) {
+        double k = current.matches() < provisionalMatches ? kFactor * 2 : kFactor;
+
+        PlayerRating next = current.withResult(k * score, won);
+        cache.put(next.uuid(), next);
+        databaseManager.saveRating(next);
+    }
+
+    private record Result(String id, double score, boolean won, long createdAt) {}
+}
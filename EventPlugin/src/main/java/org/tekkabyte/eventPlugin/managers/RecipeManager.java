@@ -1,198 +1,241 @@
 package org.tekkabyte.eventPlugin.managers;
 
-import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
-import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 import org.tekkabyte.eventPlugin.EventPlugin;
 import org.tekkabyte.eventPlugin.database.DatabaseManager;
 import org.tekkabyte.eventPlugin.models.CustomRecipe;
+import org.tekkabyte.eventPlugin.models.IngredientKey;
+import org.tekkabyte.eventPlugin.models.InventoryDigest;
+import org.tekkabyte.eventPlugin.utils.InventoryUtil;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 public class RecipeManager {
     private final EventPlugin plugin;
     private final DatabaseManager databaseManager;
-    private final Map<String, CustomRecipe> recipes;
+    private final AtomicReference<RecipeSnapshot> snapshot = new AtomicReference<>(RecipeSnapshot.EMPTY);
+
+    private final List<Consumer<String>> changeListeners = new CopyOnWriteArrayList<>();
+    private final CraftAnnouncer announcer;
+
+    private volatile CompletableFuture<Void> ready = CompletableFuture.completedFuture(null);
 
     public RecipeManager(EventPlugin plugin, DatabaseManager databaseManager) {
         this.plugin = plugin;
         this.databaseManager = databaseManager;
-        this.recipes = new HashMap<>();
+        this.announcer = new CraftAnnouncer(plugin);
     }
 
     public void loadRecipes() {
-        recipes.clear();
         List<CustomRecipe> loadedRecipes = databaseManager.loadAllRecipes();
-        for (CustomRecipe recipe : loadedRecipes) {
-            recipes.put(recipe.getId(), recipe);
+        snapshot.set(RecipeSnapshot.of(loadedRecipes));
+        plugin.getLogger().info("Loaded " + loadedRecipes.size() + " custom recipes from database.");
+
+        decodeInBackground(loadedRecipes);
+    }
+
+    private void decodeInBackground(List<CustomRecipe> loaded) {
+        List<CustomRecipe> pending = new ArrayList<>();
+        for (CustomRecipe recipe : loaded) {
+            if (!recipe.isDecoded()) pending.add(recipe);
+        }
+        if (pending.isEmpty()) {
+            ready = CompletableFuture.completedFuture(null);
+            return;
+        }
+
+        int configured = plugin.getConfig().getInt("database.load-threads", 0);
+        int threads = configured > 0
+                ? configured
+                : Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "EventPlugin-RecipeLoader-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        long start = System.nanoTime();
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[pending.size()];
+        for (int i = 0; i < pending.size(); i++) {
+            CustomRecipe recipe = pending.get(i);
+            tasks[i] = CompletableFuture.runAsync(recipe::decode, pool);
         }
-        plugin.getLogger().info("Loaded " + recipes.size() + " custom recipes from database.");
+
+        ready = CompletableFuture.allOf(tasks).whenComplete((v, t) -> {
+            pool.shutdown();
+            snapshot.updateAndGet(current -> RecipeSnapshot.of(current.all()));
+            if (t != null) {
+                plugin.getLogger().warning("Some recipe payloads failed to decode in the background: " + t.getMessage());
+                return;
+            }
+            long ms = (System.nanoTime() - start) / 1_000_000L;
+            plugin.getLogger().info("Decoded " + pending.size() + " recipe payloads in " + ms + "ms on " + threads + " threads.");
+        });
+    }
+
+    public boolean isReady() {
+        return ready.isDone();
+    }
+
+    public CompletableFuture<Void> whenReady() {
+        return ready;
     }
 
     public void saveRecipe(CustomRecipe recipe) {
-        recipes.put(recipe.getId(), recipe);
+        recipe.decode();
+        snapshot.updateAndGet(current -> current.with(recipe));
         databaseManager.saveRecipe(recipe);
+        fireChanged(recipe.getId());
     }
 
     public void deleteRecipe(String id) {
-        recipes.remove(id);
+        snapshot.updateAndGet(current -> current.without(id));
         databaseManager.deleteRecipe(id);
+        fireChanged(id);
     }
 
-    public CustomRecipe getRecipe(String id) {
-        return recipes.get(id);
+    public void addChangeListener(Consumer<String> listener) {
+        changeListeners.add(listener);
     }
 
-    public List<CustomRecipe> getAllRecipes() {
-        return new ArrayList<>(recipes.values());
+    private void fireChanged(String id) {
+        for (Consumer<String> listener : changeListeners) listener.accept(id);
     }
 
-    public boolean canCraft(ItemStack[] inventory, CustomRecipe recipe) {
-        if (recipe == null) return false;
-        if (!recipe.canCraftMore()) return false;
+    public RecipeSnapshot getSnapshot() {
+        return snapshot.get();
+    }
 
-        Map<ItemStack, Integer> required = new HashMap<>();
+    public List<CustomRecipe> getCandidateRecipes(InventoryDigest digest) {
+        RecipeSnapshot current = snapshot.get();
+        Map<String, Integer> hits = new HashMap<>();
 
-        for (ItemStack material : recipe.getMaterials()) {
-            if (material == null) continue;
+        for (IngredientKey key : digest.keys()) {
+            for (String id : current.recipesUsing(key)) hits.merge(id, 1, Integer::sum);
+        }
 
-            boolean found = false;
-            for (ItemStack key : required.keySet()) {
-                if (key.isSimilar(material)) {
-                    required.put(key, required.get(key) + material.getAmount());
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) required.put(material.clone(), material.getAmount());
+        List<CustomRecipe> out = new ArrayList<>();
+        for (String id : current.recipesWithoutIngredients()) {
+            CustomRecipe recipe = current.get(id);
+            if (recipe != null) out.add(recipe);
+        }
+        for (Map.Entry<String, Integer> e : hits.entrySet()) {
+            CustomRecipe recipe = current.get(e.getKey());
+            if (recipe == null) continue;
+            if (e.getValue() == recipe.getSignature().size()) out.add(recipe);
         }
+        return out;
+    }
 
-        Map<ItemStack, Integer> available = new HashMap<>();
-        for (ItemStack item : inventory) {
-            if (item == null) continue;
-
-            boolean found = false;
-            for (ItemStack key : available.keySet()) {
-                if (key.isSimilar(item)) {
-                    available.put(key, available.get(key) + item.getAmount());
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) available.put(item.clone(), item.getAmount());
+    // In menu order; only recipes sharing every ingredient with the inventory are checked
+    public List<CustomRecipe> getCraftableRecipes(InventoryDigest digest) {
+        List<CustomRecipe> out = new ArrayList<>();
+        for (CustomRecipe recipe : getCandidateRecipes(digest)) {
+            if (canCraft(digest, recipe)) out.add(recipe);
         }
+        out.sort(RecipeSnapshot.ORDER);
+        return out;
+    }
 
-        for (Map.Entry<ItemStack, Integer> entry : required.entrySet()) {
-            ItemStack requiredItem = entry.getKey();
-            int requiredAmount = entry.getValue();
+    public CustomRecipe getRecipe(String id) {
+        return snapshot.get().get(id);
+    }
 
-            int availableAmount = 0;
-            for (Map.Entry<ItemStack, Integer> availEntry : available.entrySet()) {
-                if (availEntry.getKey().isSimilar(requiredItem)) {
-                    availableAmount = availEntry.getValue();
-                    break;
-                }
-            }
+    public List<CustomRecipe> getAllRecipes() {
+        return snapshot.get().all();
+    }
 
-            if (availableAmount < requiredAmount) return false;
-        }
+    public boolean canCraft(ItemStack[] inventory, CustomRecipe recipe) {
+        if (recipe == null) return false;
+        if (!recipe.canCraftMore()) return false;
 
-        return true;
+        return recipe.getSignature().isSatisfiedBy(inventory);
     }
 
-    public void removeMaterials(ItemStack[] inventory, CustomRecipe recipe) {
-        Map<ItemStack, Integer> toRemove = new HashMap<>();
-
-        for (ItemStack material : recipe.getMaterials()) {
-            if (material == null) continue;
-
-            boolean found = false;
-            for (ItemStack key : toRemove.keySet()) {
-                if (key.isSimilar(material)) {
-                    toRemove.put(key, toRemove.get(key) + material.getAmount());
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) toRemove.put(material.clone(), material.getAmount());
-        }
+    public boolean canCraft(InventoryDigest digest, CustomRecipe recipe) {
+        if (recipe == null || digest == null) return false;
+        if (!recipe.canCraftMore()) return false;
 
-        for (Map.Entry<ItemStack, Integer> entry : toRemove.entrySet()) {
-            ItemStack itemToRemove = entry.getKey();
-            int amountToRemove = entry.getValue();
-
-            for (ItemStack item : inventory) {
-                if (item == null) continue;
-                if (!item.isSimilar(itemToRemove)) continue;
-
-                if (item.getAmount() > amountToRemove) {
-                    item.setAmount(item.getAmount() - amountToRemove);
-                    break;
-                } else {
-                    amountToRemove -= item.getAmount();
-                    item.setAmount(0);
-                    item.setType(org.bukkit.Material.AIR);
-                    if (amountToRemove <= 0) break;
-                }
-            }
-        }
+        return recipe.getSignature().isSatisfiedBy(digest);
     }
 
-    public boolean tryCraftAndConsume(ItemStack[] inventory, CustomRecipe recipe) {
-        return tryCraftAndConsume(null, inventory, recipe);
+    public int maxCraftable(ItemStack[] inventory, CustomRecipe recipe, int limit) {
+        if (recipe == null || limit <= 0 || !recipe.canCraftMore()) return 0;
+
+        int times = Math.min(limit, recipe.getSignature().maxTimes(inventory));
+        if (!recipe.isUnlimited()) times = Math.min(times, recipe.remainingCrafts());
+        return Math.max(0, times);
     }
 
-    public boolean tryCraftAndConsume(Player crafter, ItemStack[] inventory, CustomRecipe recipe) {
-        if (!canCraft(inventory, recipe)) return false;
+    public void removeMaterials(ItemStack[] inventory, CustomRecipe recipe) {
+        removeMaterials(inventory, recipe, 1);
+    }
 
-        removeMaterials(inventory, recipe);
+    public void removeMaterials(ItemStack[] inventory, CustomRecipe recipe, int times) {
+        recipe.getSignature().consume(inventory, times);
+    }
 
-        recipe.incrementCraftsUsed(1);
-        saveRecipe(recipe);
+    public CraftReservation reserveCraft(CustomRecipe recipe, int amount) {
+        if (recipe == null || amount <= 0) return null;
+        if (!recipe.tryClaimCrafts(amount)) return null;
 
-        broadcastCraft(crafter, recipe.getResult());
-        playWitherSpawnToAll();
+        CompletableFuture<Boolean> persisted;
+        if (recipe.isUnlimited()) {
+            databaseManager.addRecipeUses(recipe.getId(), amount);
+            persisted = CompletableFuture.completedFuture(true);
+        } else {
+            persisted = databaseManager.claimRecipeUses(recipe.getId(), amount);
+        }
+        return new CraftReservation(recipe, amount, persisted);
+    }
 
-        return true;
+    public CraftReservation tryCraftAndConsume(ItemStack[] inventory, CustomRecipe recipe) {
+        return tryCraftAndConsume(inventory, recipe, 1);
     }
 
-    private void broadcastCraft(Player crafter, ItemStack result) {
-        String itemName = prettyItemName(result);
+    public CraftReservation tryCraftAndConsume(ItemStack[] inventory, CustomRecipe recipe, int limit) {
+        int times = maxCraftable(inventory, recipe, limit);
+        if (times <= 0) return null;
 
-        String msg;
-        if (crafter != null) {
-            msg = "§x§F§F§C§B§4§0✦ EVENT CRAFT ✦ " + ChatColor.WHITE + crafter.getName() + " crafted the " + itemName + "!";
-        } else {
-            msg = "§x§F§F§C§B§4§0✦ EVENT CRAFT ✦ " + ChatColor.WHITE + "An item was crafted: " + itemName + "!";
-        }
+        CraftReservation reservation = reserveCraft(recipe, times);
+        if (reservation == null) return null;
 
-        Bukkit.broadcastMessage(msg);
+        removeMaterials(inventory, recipe, times);
+        return reservation;
     }
 
-    private void playWitherSpawnToAll() {
-        for (Player p : Bukkit.getOnlinePlayers()) {
-            p.playSound(p.getLocation(), Sound.ENTITY_WITHER_SPAWN, 1.0f, 1.0f);
+    public void rollbackCraft(UUID crafter, CraftReservation reservation) {
+        reservation.release();
+        if (crafter == null) return;
+
+        List<ItemStack> refund = new ArrayList<>();
+        for (ItemStack material : reservation.getRecipe().getMaterials()) {
+            if (material == null || material.getType().isAir()) continue;
+            long total = (long) material.getAmount() * reservation.getAmount();
+            refund.addAll(InventoryUtil.splitStacks(material, total));
         }
+        plugin.getDeliveryManager().deliver(crafter, refund);
     }
 
-    private String prettyItemName(ItemStack item) {
-        if (item == null) return "Unknown Item";
+    public void announceCraft(Player crafter, CustomRecipe recipe) {
+        announceCraft(crafter, recipe, 1);
+    }
 
-        ItemMeta meta = item.getItemMeta();
-        if (meta != null && meta.hasDisplayName()) {
-            return meta.getDisplayName();
-        }
+    public void announceCraft(Player crafter, CustomRecipe recipe, int times) {
+        announcer.announce(crafter, recipe.getResult(), times);
+    }
 
-        String type = item.getType().name().toLowerCase(Locale.ROOT).replace('_', ' ');
-        String[] parts = type.split(" ");
-        StringBuilder sb = new StringBuilder();
-        for (String part : parts) {
-            if (part.isEmpty()) continue;
-            sb.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1)).append(' ');
-        }
-        return sb.toString().trim();
+    public void shutdown() {
+        announcer.shutdown();
     }
-}
\ No newline at end of file
+}
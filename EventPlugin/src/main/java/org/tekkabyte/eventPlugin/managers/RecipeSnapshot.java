@@ -0,0 +1,132 @@
+package org.tekkabyte.eventPlugin.managers;
+
+import org.tekkabyte.eventPlugin.models.CustomRecipe;
+import org.tekkabyte.eventPlugin.models.IngredientKey;
+import org.tekkabyte.eventPlugin.models.RecipeSignature;
+
+import java.util.*;
+
+public final class RecipeSnapshot {
+
+    public static final RecipeSnapshot EMPTY = new RecipeSnapshot(Map.of(), List.of(), Map.of(), Set.of());
+
+    public static final Comparator<CustomRecipe> ORDER = Comparator
+            .comparing((CustomRecipe r) -> r.getName() == null ? "" : r.getName(), String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(CustomRecipe::getId);
+
+    private final Map<String, CustomRecipe> byId;
+    private final List<CustomRecipe> sorted;
+    private final Map<IngredientKey, Set<String>> byIngredient;
+    private final Set<String> withoutIngredients;
+
+    private RecipeSnapshot(Map<String, CustomRecipe> byId, List<CustomRecipe> sorted,
+                           Map<IngredientKey, Set<String>> byIngredient, Set<String> withoutIngredients) {
+        this.byId = byId;
+        this.sorted = sorted;
+        this.byIngredient = byIngredient;
+        this.withoutIngredients = withoutIngredients;
+    }
+
+    public static RecipeSnapshot of(Collection<CustomRecipe> recipes) {
+        Map<String, CustomRecipe> byId = new HashMap<>();
+        for (CustomRecipe r : recipes) byId.put(r.getId(), r);
+
+        List<CustomRecipe> sorted = new ArrayList<>(byId.values());
+        sorted.sort(ORDER);
+
+        Map<IngredientKey, Set<String>> index = new HashMap<>();
+        Set<String> none = new HashSet<>();
+        for (CustomRecipe r : sorted) {
+            if (r.isDecoded()) index(index, none, r);
+        }
+
+        return new RecipeSnapshot(Collections.unmodifiableMap(byId), Collections.unmodifiableList(sorted),
+                Collections.unmodifiableMap(index), Collections.unmodifiableSet(none));
+    }
+
+    public RecipeSnapshot with(CustomRecipe recipe) {
+        Map<String, CustomRecipe> ids = new HashMap<>(byId);
+        CustomRecipe previous = ids.put(recipe.getId(), recipe);
+
+        List<CustomRecipe> list = new ArrayList<>(sorted);
+        if (previous != null) list.remove(previous);
+        int pos = Collections.binarySearch(list, recipe, ORDER);
+        list.add(pos < 0 ? -pos - 1 : pos, recipe);
+
+        Map<IngredientKey, Set<String>> index = new HashMap<>(byIngredient);
+        Set<String> none = new HashSet<>(withoutIngredients);
+        if (previous != null && previous.isDecoded()) unindex(index, none, previous);
+        if (recipe.isDecoded()) index(index, none, recipe);
+
+        return new RecipeSnapshot(Collections.unmodifiableMap(ids), Collections.unmodifiableList(list),
+                Collections.unmodifiableMap(index), Collections.unmodifiableSet(none));
+    }
+
+    public RecipeSnapshot without(String id) {
+        CustomRecipe previous = byId.get(id);
+        if (previous == null) return this;
+
+        Map<String, CustomRecipe> ids = new HashMap<>(byId);
+        ids.remove(id);
+
+        List<CustomRecipe> list = new ArrayList<>(sorted);
+        list.remove(previous);
+
+        Map<IngredientKey, Set<String>> index = new HashMap<>(byIngredient);
+        Set<String> none = new HashSet<>(withoutIngredients);
+        if (previous.isDecoded()) unindex(index, none, previous);
+
+        return new RecipeSnapshot(Collections.unmodifiableMap(ids), Collections.unmodifiableList(list),
+                Collections.unmodifiableMap(index), Collections.unmodifiableSet(none));
+    }
+
+    private static void index(Map<IngredientKey, Set<String>> index, Set<String> none, CustomRecipe recipe) {
+        RecipeSignature signature = recipe.getSignature();
+        if (signature.size() == 0) {
+            none.add(recipe.getId());
+            return;
+        }
+        for (int i = 0; i < signature.size(); i++) {
+            IngredientKey key = signature.getKey(i);
+            Set<String> ids = new HashSet<>(index.getOrDefault(key, Set.of()));
+            ids.add(recipe.getId());
+            index.put(key, Collections.unmodifiableSet(ids));
+        }
+    }
+
+    private static void unindex(Map<IngredientKey, Set<String>> index, Set<String> none, CustomRecipe recipe) {
+        none.remove(recipe.getId());
+
+        RecipeSignature signature = recipe.getSignature();
+        for (int i = 0; i < signature.size(); i++) {
+            IngredientKey key = signature.getKey(i);
+            Set<String> current = index.get(key);
+            if (current == null) continue;
+
+            Set<String> ids = new HashSet<>(current);
+            ids.remove(recipe.getId());
+            if (ids.isEmpty()) index.remove(key);
+            else index.put(key, Collections.unmodifiableSet(ids));
+        }
+    }
+
+    public CustomRecipe get(String id) {
+        return byId.get(id);
+    }
+
+    public List<CustomRecipe> all() {
+        return sorted;
+    }
+
+    public int size() {
+        return sorted.size();
+    }
+
+    public Set<String> recipesUsing(IngredientKey key) {
+        return byIngredient.getOrDefault(key, Set.of());
+    }
+
+    public Set<String> recipesWithoutIngredients() {
+        return withoutIngredients;
+    }
+}
@@ -0,0 +1,87 @@
+package org.tekkabyte.eventPlugin.managers;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.tekkabyte.eventPlugin.EventPlugin;
+import org.tekkabyte.eventPlugin.database.DatabaseManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+public class StateJournal {
+
+    private final EventPlugin plugin;
+    private final DatabaseManager databaseManager;
+    private final long maxAgeMs;
+
+    private final Map<UUID, PlayerState> recovered = new HashMap<>();
+
+    public StateJournal(EventPlugin plugin, DatabaseManager databaseManager) {
+        this.plugin = plugin;
+        this.databaseManager = databaseManager;
+        this.maxAgeMs = TimeUnit.HOURS.toMillis(Math.max(1, plugin.getConfig().getLong("recovery.max-age-hours", 168L)));
+    }
+
+    // Anything still in the journal at startup belongs to an event that never ended cleanly
+    public void load() {
+        if (!databaseManager.isConnected()) {
+            plugin.getLogger().warning("[Recovery] Database unavailable; event inventories will not survive a crash.");
+            return;
+        }
+
+        long cutoff = System.currentTimeMillis() - maxAgeMs;
+        int expired = 0;
+        int broken = 0;
+
+        for (DatabaseManager.JournalEntry entry : databaseManager.loadJournal()) {
+            // These rows are the only copy of a player's real inventory, so they are set aside rather than deleted
+            if (entry.updatedAt() < cutoff) {
+                databaseManager.quarantineJournal(entry.uuid(), "expired");
+                plugin.getLogger().warning("[Recovery] Journal entry for " + entry.uuid() + " is older than the recovery window; moved to state_journal_quarantine.");
+                expired++;
+                continue;
+            }
+
+            PlayerState state = PlayerState.decode(entry.state());
+            if (state == null) {
+                databaseManager.quarantineJournal(entry.uuid(), "unreadable");
+                plugin.getLogger().warning("[Recovery] Journal entry for " + entry.uuid() + " could not be decoded; moved to state_journal_quarantine.");
+                broken++;
+                continue;
+            }
+            recovered.put(entry.uuid(), state.withLocation(PlayerState.decodeLocation(entry.returnLocation())));
+        }
+
+        if (!recovered.isEmpty()) {
+            plugin.getLogger().info("[Recovery] " + recovered.size() + " player state(s) from an interrupted event will be restored on join.");
+        }
+        if (expired > 0 || broken > 0) {
+            plugin.getLogger().warning("[Recovery] Quarantined " + expired + " expired and " + broken + " unreadable journal entries.");
+        }
+    }
+
+    public void record(Player player, PlayerState state) {
+        databaseManager.saveJournalState(player.getUniqueId(), state.encode());
+    }
+
+    public void recordReturn(Player player, Location location) {
+        if (location == null || location.getWorld() == null) return;
+        databaseManager.saveJournalReturn(player.getUniqueId(), PlayerState.encodeLocation(location));
+    }
+
+    public void remove(UUID uuid) {
+        recovered.remove(uuid);
+        databaseManager.deleteJournal(uuid);
+    }
+
+    // Kept for a player who is offline when their event ends; the journal row stays until they return
+    public void defer(UUID uuid, PlayerState state) {
+        recovered.put(uuid, state);
+    }
+
+    public PlayerState takeRecovered(UUID uuid) {
+        return recovered.remove(uuid);
+    }
+}
@@ -3,14 +3,36 @@ package org.tekkabyte.eventPlugin.managers;
 import org.bukkit.*;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.tekkabyte.eventPlugin.world.AsyncWorldCleaner;
+import org.tekkabyte.eventPlugin.world.WorldPool;
 
 import java.io.File;
+import java.nio.file.Path;
 
 public class WorldManager {
+    private static final String KIND_UHC = "uhc";
+    private static final String KIND_TOURNAMENT = "tournament";
+
     private final JavaPlugin plugin;
+    private final AsyncWorldCleaner cleaner;
+    private final WorldPool pool;
 
     public WorldManager(JavaPlugin plugin) {
         this.plugin = plugin;
+        this.cleaner = new AsyncWorldCleaner(plugin);
+        this.pool = new WorldPool(plugin, cleaner);
+    }
+
+    public void start() {
+        int size = plugin.getConfig().getInt("worlds.pool-size", 1);
+        pool.register(KIND_UHC, templatePath(KIND_UHC), size);
+        pool.register(KIND_TOURNAMENT, templatePath(KIND_TOURNAMENT), size);
+        pool.start();
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+        cleaner.shutdown();
     }
 
     public World createEventWorld(String worldName, World.Environment env) {
@@ -18,9 +40,13 @@ public class WorldManager {
         World loaded = Bukkit.getWorld(worldName);
         if (loaded != null) return loaded;
 
+        long started = System.currentTimeMillis();
+        boolean fromTemplate = pool.take(KIND_UHC, worldName) != null;
+
         WorldCreator wc = new WorldCreator(worldName);
         wc.environment(env);
         wc.type(WorldType.NORMAL);
+        applySeed(wc, KIND_UHC);
 
         World world = wc.createWorld();
         if (world != null) {
@@ -28,6 +54,7 @@ public class WorldManager {
             world.setPVP(true);
             world.setGameRule(GameRule.DO_DAYLIGHT_CYCLE, false);
             world.setTime(6000);
+            logCreated(world, fromTemplate, started);
         }
         return world;
     }
@@ -36,19 +63,48 @@ public class WorldManager {
         World loaded = Bukkit.getWorld(worldName);
         if (loaded != null) return loaded;
 
+        long started = System.currentTimeMillis();
+        boolean fromTemplate = pool.take(KIND_TOURNAMENT, worldName) != null;
+
         WorldCreator wc = new WorldCreator(worldName);
         wc.environment(World.Environment.NORMAL);
         wc.type(WorldType.FLAT);
-
+        applySeed(wc, KIND_TOURNAMENT);
 
         World world = wc.createWorld();
         if (world != null) {
             world.setDifficulty(Difficulty.NORMAL);
             world.setPVP(true);
+            logCreated(world, fromTemplate, started);
         }
         return world;
     }
 
+    private Path templatePath(String kind) {
+        String template = plugin.getConfig().getString("worlds." + kind + ".template", "");
+        if (template == null || template.isBlank()) return null;
+
+        Path path = Path.of(template.trim());
+        return path.isAbsolute() ? path : plugin.getDataFolder().toPath().resolve(path);
+    }
+
+    private void applySeed(WorldCreator wc, String kind) {
+        String seed = plugin.getConfig().getString("worlds." + kind + ".seed", "");
+        if (seed == null || seed.isBlank()) return;
+
+        seed = seed.trim();
+        try {
+            wc.seed(Long.parseLong(seed));
+        } catch (NumberFormatException e) {
+            wc.seed(seed.hashCode());
+        }
+    }
+
+    private void logCreated(World world, boolean fromTemplate, long started) {
+        plugin.getLogger().info("[Worlds] " + world.getName() + " ready in " + (System.currentTimeMillis() - started)
+                + "ms (" + (fromTemplate ? "prepared template copy" : "generated") + ")");
+    }
+
     public void setupWorldBorder(World world, double size, double centerX, double centerZ) {
         if (world == null) return;
         WorldBorder border = world.getWorldBorder();
@@ -76,24 +132,16 @@ public class WorldManager {
             p.teleport(spawn, org.bukkit.event.player.PlayerTeleportEvent.TeleportCause.COMMAND);
         }
 
-        Bukkit.unloadWorld(world, false);
+        if (!Bukkit.unloadWorld(world, false)) {
+            plugin.getLogger().warning("[Worlds] Could not unload " + worldName + "; leaving its folder in place.");
+            return;
+        }
         deleteWorldFolder(worldName);
     }
 
     private void deleteWorldFolder(String worldName) {
         File worldFolder = new File(Bukkit.getWorldContainer(), worldName);
         if (!worldFolder.exists()) return;
-        deleteDirectory(worldFolder);
-    }
-
-    private void deleteDirectory(File dir) {
-        File[] files = dir.listFiles();
-        if (files != null) {
-            for (File f : files) {
-                if (f.isDirectory()) deleteDirectory(f);
-                else f.delete();
-            }
-        }
-        dir.delete();
+        cleaner.delete(worldFolder.toPath());
     }
 }
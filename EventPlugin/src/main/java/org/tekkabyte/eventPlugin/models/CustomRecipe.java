@@ -1,22 +1,25 @@
 package org.tekkabyte.eventPlugin.models;
 
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.util.io.BukkitObjectInputStream;
-import org.bukkit.util.io.BukkitObjectOutputStream;
+import org.tekkabyte.eventPlugin.utils.ItemStackCodec;
 
-import java.io.*;
 import java.util.*;
-import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class CustomRecipe {
 
     private final String id;
     private final String name;
-    private final ItemStack result;
-    private final List<ItemStack> materials;
 
-    private int maxCrafts;
-    private int craftsUsed;
+    private volatile ItemStack result;
+    private volatile List<ItemStack> materials;
+    private volatile boolean decoded;
+    private volatile RecipeSignature signature;
+    private byte[] encodedResult;
+    private byte[] encodedMaterials;
+
+    private volatile int maxCrafts;
+    private final AtomicInteger craftsUsed;
 
     public CustomRecipe(String id, String name, ItemStack result, List<ItemStack> materials) {
         this(id, name, result, materials, -1, 0);
@@ -27,88 +30,102 @@ public class CustomRecipe {
         this.name = name;
         this.result = result;
         this.materials = materials == null ? new ArrayList<>() : new ArrayList<>(materials);
+        this.signature = RecipeSignature.compile(this.materials);
+        this.decoded = true;
         this.maxCrafts = maxCrafts;
-        this.craftsUsed = craftsUsed;
+        this.craftsUsed = new AtomicInteger(craftsUsed);
+    }
+
+    private CustomRecipe(String id, String name, byte[] encodedResult, byte[] encodedMaterials, int maxCrafts, int craftsUsed) {
+        this.id = id;
+        this.name = name;
+        this.encodedResult = encodedResult;
+        this.encodedMaterials = encodedMaterials;
+        this.decoded = false;
+        this.maxCrafts = maxCrafts;
+        this.craftsUsed = new AtomicInteger(craftsUsed);
+    }
+
+    public static CustomRecipe fromEncoded(String id, String name, byte[] result, byte[] materials, int maxCrafts, int craftsUsed) {
+        return new CustomRecipe(id, name, result, materials, maxCrafts, craftsUsed);
     }
 
     public String getId() { return id; }
     public String getName() { return name; }
-    public ItemStack getResult() { return result; }
-    public List<ItemStack> getMaterials() { return new ArrayList<>(materials); }
+    public ItemStack getResult() { ensureDecoded(); return result; }
+    public List<ItemStack> getMaterials() { ensureDecoded(); return new ArrayList<>(materials); }
+
+    public RecipeSignature getSignature() { ensureDecoded(); return signature; }
+
+    public boolean isDecoded() { return decoded; }
+
+    public void decode() {
+        ensureDecoded();
+    }
+
+    private void ensureDecoded() {
+        if (decoded) return;
+        synchronized (this) {
+            if (decoded) return;
+            result = ItemStackCodec.decode(encodedResult);
+            materials = ItemStackCodec.decodeList(encodedMaterials);
+            signature = RecipeSignature.compile(materials);
+            decoded = true;
+        }
+    }
 
     public int getMaxCrafts() { return maxCrafts; }
-    public int getCraftsUsed() { return craftsUsed; }
+    public int getCraftsUsed() { return craftsUsed.get(); }
 
     public void setMaxCrafts(int maxCrafts) { this.maxCrafts = maxCrafts; }
-    public void setCraftsUsed(int craftsUsed) { this.craftsUsed = craftsUsed; }
+    public void setCraftsUsed(int craftsUsed) { this.craftsUsed.set(craftsUsed); }
 
     public boolean isUnlimited() { return maxCrafts < 0; }
 
     public boolean canCraftMore() {
-        return isUnlimited() || craftsUsed < maxCrafts;
+        return isUnlimited() || craftsUsed.get() < maxCrafts;
     }
 
     public int remainingCrafts() {
         if (isUnlimited()) return -1;
-        return Math.max(0, maxCrafts - craftsUsed);
-    }
-
-    public void incrementCraftsUsed(int amount) {
-        if (amount <= 0) return;
-        this.craftsUsed += amount;
-        if (!isUnlimited() && this.craftsUsed > this.maxCrafts) this.craftsUsed = this.maxCrafts;
+        return Math.max(0, maxCrafts - craftsUsed.get());
     }
 
-    public String serializeResult() {
-        return serializeItemStack(result);
+    public boolean tryClaimCrafts(int amount) {
+        if (amount <= 0) return false;
+        while (true) {
+            int current = craftsUsed.get();
+            int max = maxCrafts;
+            if (max >= 0 && current + amount > max) return false;
+            if (craftsUsed.compareAndSet(current, current + amount)) return true;
+        }
     }
 
-    public String serializeMaterials() {
-        if (materials == null || materials.isEmpty()) return "";
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < materials.size(); i++) {
-            ItemStack it = materials.get(i);
-            if (it == null) continue;
-            if (sb.length() > 0) sb.append("|");
-            sb.append(serializeItemStack(it));
-        }
-        return sb.toString();
+    public void releaseCrafts(int amount) {
+        if (amount <= 0) return;
+        craftsUsed.updateAndGet(current -> Math.max(0, current - amount));
     }
 
-    public static ItemStack deserializeItemStack(String data) {
-        if (data == null || data.isEmpty()) return null;
-        try {
-            byte[] bytes = Base64.getDecoder().decode(data);
-            try (BukkitObjectInputStream in = new BukkitObjectInputStream(new ByteArrayInputStream(bytes))) {
-                Object obj = in.readObject();
-                return (ItemStack) obj;
-            }
-        } catch (Throwable t) {
-            return null;
-        }
+    public void incrementCraftsUsed(int amount) {
+        if (amount <= 0) return;
+        craftsUsed.updateAndGet(current -> {
+            int next = current + amount;
+            int max = maxCrafts;
+            return (max >= 0 && next > max) ? max : next;
+        });
     }
 
-    public static List<ItemStack> deserializeMaterials(String data) {
-        List<ItemStack> out = new ArrayList<>();
-        if (data == null || data.isEmpty()) return out;
-        String[] parts = data.split("\\|");
-        for (String p : parts) {
-            ItemStack it = deserializeItemStack(p);
-            if (it != null) out.add(it);
+    public byte[] serializeResult() {
+        synchronized (this) {
+            if (encodedResult != null) return encodedResult;
         }
-        return out;
+        return ItemStackCodec.encode(result);
     }
 
-    private static String serializeItemStack(ItemStack item) {
-        if (item == null) return "";
-        try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            try (BukkitObjectOutputStream out = new BukkitObjectOutputStream(baos)) {
-                out.writeObject(item);
-            }
-            return Base64.getEncoder().encodeToString(baos.toByteArray());
-        } catch (Throwable t) {
-            return "";
+    public byte[] serializeMaterials() {
+        synchronized (this) {
+            if (encodedMaterials != null) return encodedMaterials;
         }
+        return ItemStackCodec.encodeList(materials);
     }
 }
\ No newline at end of file
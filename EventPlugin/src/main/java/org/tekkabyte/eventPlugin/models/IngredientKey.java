@@ -0,0 +1,52 @@
+package org.tekkabyte.eventPlugin.models;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+public final class IngredientKey {
+
+    private final ItemStack prototype;
+    private final Material type;
+    private final int fingerprint;
+
+    public IngredientKey(ItemStack item) {
+        this.prototype = item.clone();
+        this.prototype.setAmount(1);
+        this.type = item.getType();
+        this.fingerprint = fingerprint(item);
+    }
+
+    public static int fingerprint(ItemStack item) {
+        int h = item.getType().hashCode();
+        if (item.hasItemMeta()) h = 31 * h + item.getItemMeta().hashCode();
+        return h;
+    }
+
+    public Material getType() {
+        return type;
+    }
+
+    public int getFingerprint() {
+        return fingerprint;
+    }
+
+    public ItemStack getPrototype() {
+        return prototype.clone();
+    }
+
+    public boolean matches(ItemStack item, int itemFingerprint) {
+        return item != null && fingerprint == itemFingerprint && prototype.isSimilar(item);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IngredientKey other)) return false;
+        return fingerprint == other.fingerprint && prototype.isSimilar(other.prototype);
+    }
+
+    @Override
+    public int hashCode() {
+        return fingerprint;
+    }
+}
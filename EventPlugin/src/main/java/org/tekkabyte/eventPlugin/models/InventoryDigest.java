@@ -0,0 +1,79 @@
+package org.tekkabyte.eventPlugin.models;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public final class InventoryDigest {
+
+    private final Map<Material, List<Entry>> byType = new EnumMap<>(Material.class);
+    private final long createdTick;
+
+    private InventoryDigest(long createdTick) {
+        this.createdTick = createdTick;
+    }
+
+    public static InventoryDigest of(ItemStack[] inventory, long tick) {
+        InventoryDigest digest = new InventoryDigest(tick);
+        if (inventory == null) return digest;
+
+        for (ItemStack item : inventory) {
+            if (item == null) continue;
+
+            Material type = item.getType();
+            if (type.isAir()) continue;
+
+            List<Entry> bucket = digest.byType.computeIfAbsent(type, t -> new ArrayList<>(1));
+            int fingerprint = IngredientKey.fingerprint(item);
+
+            Entry match = null;
+            for (Entry e : bucket) {
+                if (e.key.matches(item, fingerprint)) {
+                    match = e;
+                    break;
+                }
+            }
+            if (match == null) {
+                match = new Entry(new IngredientKey(item));
+                bucket.add(match);
+            }
+            match.count += item.getAmount();
+        }
+        return digest;
+    }
+
+    public int count(IngredientKey key) {
+        List<Entry> bucket = byType.get(key.getType());
+        if (bucket == null) return 0;
+
+        for (Entry e : bucket) {
+            if (e.key.equals(key)) return e.count;
+        }
+        return 0;
+    }
+
+    public List<IngredientKey> keys() {
+        List<IngredientKey> out = new ArrayList<>();
+        for (List<Entry> bucket : byType.values()) {
+            for (Entry e : bucket) out.add(e.key);
+        }
+        return out;
+    }
+
+    public long getCreatedTick() {
+        return createdTick;
+    }
+
+    private static final class Entry {
+        private final IngredientKey key;
+        private int count;
+
+        private Entry(IngredientKey key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.tekkabyte.eventPlugin.models;
+
+import java.util.UUID;
+
+public record PlayerRating(UUID uuid, double rating, int matches, int wins) {
+
+    public static PlayerRating initial(UUID uuid, double rating) {
+        return new PlayerRating(uuid, rating, 0, 0);
+    }
+
+    public PlayerRating withResult(double delta, boolean won) {
+        return new PlayerRating(uuid, rating + delta, matches + 1, won ? wins + 1 : wins);
+    }
+}
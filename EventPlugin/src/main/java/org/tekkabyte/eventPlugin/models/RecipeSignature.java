@@ -0,0 +1,141 @@
+package org.tekkabyte.eventPlugin.models;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class RecipeSignature {
+
+    private static final RecipeSignature EMPTY = new RecipeSignature(new IngredientKey[0], new int[0]);
+
+    private final IngredientKey[] keys;
+    private final int[] required;
+
+    private RecipeSignature(IngredientKey[] keys, int[] required) {
+        this.keys = keys;
+        this.required = required;
+    }
+
+    public static RecipeSignature compile(List<ItemStack> materials) {
+        if (materials == null || materials.isEmpty()) return EMPTY;
+
+        Map<IngredientKey, Integer> merged = new LinkedHashMap<>();
+        for (ItemStack material : materials) {
+            if (material == null || material.getType().isAir()) continue;
+            merged.merge(new IngredientKey(material), material.getAmount(), Integer::sum);
+        }
+        if (merged.isEmpty()) return EMPTY;
+
+        IngredientKey[] keys = new IngredientKey[merged.size()];
+        int[] required = new int[merged.size()];
+        int i = 0;
+        for (Map.Entry<IngredientKey, Integer> e : merged.entrySet()) {
+            keys[i] = e.getKey();
+            required[i] = e.getValue();
+            i++;
+        }
+        return new RecipeSignature(keys, required);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public IngredientKey getKey(int index) {
+        return keys[index];
+    }
+
+    public int getRequired(int index) {
+        return required[index];
+    }
+
+    public int[] tally(ItemStack[] inventory) {
+        int[] counts = new int[keys.length];
+        if (inventory == null || keys.length == 0) return counts;
+
+        for (ItemStack item : inventory) {
+            int index = indexOf(item);
+            if (index >= 0) counts[index] += item.getAmount();
+        }
+        return counts;
+    }
+
+    public boolean isSatisfiedBy(ItemStack[] inventory) {
+        int[] counts = tally(inventory);
+        for (int i = 0; i < keys.length; i++) {
+            if (counts[i] < required[i]) return false;
+        }
+        return true;
+    }
+
+    public boolean isSatisfiedBy(InventoryDigest digest) {
+        for (int i = 0; i < keys.length; i++) {
+            if (digest.count(keys[i]) < required[i]) return false;
+        }
+        return true;
+    }
+
+    public int maxTimes(ItemStack[] inventory) {
+        if (keys.length == 0) return Integer.MAX_VALUE;
+
+        int[] counts = tally(inventory);
+        int times = Integer.MAX_VALUE;
+        for (int i = 0; i < keys.length; i++) {
+            times = Math.min(times, counts[i] / required[i]);
+            if (times == 0) return 0;
+        }
+        return times;
+    }
+
+    public void consume(ItemStack[] inventory) {
+        consume(inventory, 1);
+    }
+
+    public void consume(ItemStack[] inventory, int times) {
+        if (inventory == null || keys.length == 0 || times <= 0) return;
+
+        int[] remaining = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) remaining[i] = required[i] * times;
+        int left = keys.length;
+
+        for (ItemStack item : inventory) {
+            if (left == 0) break;
+
+            int index = indexOf(item);
+            if (index < 0 || remaining[index] <= 0) continue;
+
+            int take = Math.min(item.getAmount(), remaining[index]);
+            remaining[index] -= take;
+            if (remaining[index] == 0) left--;
+
+            if (item.getAmount() > take) {
+                item.setAmount(item.getAmount() - take);
+            } else {
+                item.setAmount(0);
+                item.setType(Material.AIR);
+            }
+        }
+    }
+
+    private int indexOf(ItemStack item) {
+        if (item == null) return -1;
+
+        Material type = item.getType();
+        if (type.isAir()) return -1;
+
+        int fingerprint = 0;
+        boolean hashed = false;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].getType() != type) continue;
+            if (!hashed) {
+                fingerprint = IngredientKey.fingerprint(item);
+                hashed = true;
+            }
+            if (keys[i].matches(item, fingerprint)) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,54 @@
+package org.tekkabyte.eventPlugin.tournament;
+
+import org.bukkit.Location;
+import org.tekkabyte.eventPlugin.world.ArenaSnapshot;
+
+public class Arena {
+
+    private final String id;
+    private final Location spawnA;
+    private final Location spawnB;
+    private final ArenaSnapshot snapshot;
+
+    private ArenaMatch match;
+    private boolean resetting;
+
+    public Arena(String id, Location spawnA, Location spawnB, ArenaSnapshot snapshot) {
+        this.id = id;
+        this.spawnA = spawnA;
+        this.spawnB = spawnB;
+        this.snapshot = snapshot;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Location getSpawn(int team) {
+        return (team % 2 == 0 ? spawnA : spawnB).clone();
+    }
+
+    public ArenaSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public ArenaMatch getMatch() {
+        return match;
+    }
+
+    public void setMatch(ArenaMatch match) {
+        this.match = match;
+    }
+
+    public boolean isResetting() {
+        return resetting;
+    }
+
+    public void setResetting(boolean resetting) {
+        this.resetting = resetting;
+    }
+
+    public boolean isFree() {
+        return match == null && !resetting;
+    }
+}
@@ -0,0 +1,100 @@
+package org.tekkabyte.eventPlugin.tournament;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public class ArenaMatch {
+
+    public static final int UNDECIDED = -1;
+    public static final int NO_WINNER = -2;
+
+    private final Arena arena;
+    private final BracketMatch bracketMatch;
+    private final int teamCount;
+    private final List<List<UUID>> rosters = new ArrayList<>();
+    private final Map<UUID, Integer> teams = new LinkedHashMap<>();
+    private final Set<UUID> alive = new HashSet<>();
+    private boolean finished;
+
+    public ArenaMatch(Arena arena, BracketMatch bracketMatch, List<List<UUID>> sides) {
+        this.arena = arena;
+        this.bracketMatch = bracketMatch;
+        this.teamCount = sides.size();
+        for (int team = 0; team < sides.size(); team++) {
+            rosters.add(List.copyOf(sides.get(team)));
+            for (UUID uuid : sides.get(team)) {
+                teams.put(uuid, team);
+                alive.add(uuid);
+            }
+        }
+    }
+
+    public Arena getArena() {
+        return arena;
+    }
+
+    public BracketMatch getBracketMatch() {
+        return bracketMatch;
+    }
+
+    public Set<UUID> getPlayers() {
+        return teams.keySet();
+    }
+
+    public Integer getTeam(UUID uuid) {
+        return teams.get(uuid);
+    }
+
+    public List<UUID> getTeamMembers(int team) {
+        List<UUID> out = new ArrayList<>();
+        for (Map.Entry<UUID, Integer> e : teams.entrySet()) {
+            if (e.getValue() == team) out.add(e.getKey());
+        }
+        return out;
+    }
+
+    // Everyone who started on the team, including players who have since left
+    public List<UUID> getRoster(int team) {
+        return rosters.get(team);
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    public boolean isAlive(UUID uuid) {
+        return alive.contains(uuid);
+    }
+
+    public void eliminate(UUID uuid) {
+        alive.remove(uuid);
+    }
+
+    public void remove(UUID uuid) {
+        alive.remove(uuid);
+        teams.remove(uuid);
+    }
+
+    public int getWinningTeam() {
+        int aliveTeam = NO_WINNER;
+        for (UUID uuid : alive) {
+            int team = teams.get(uuid);
+            if (aliveTeam == NO_WINNER) aliveTeam = team;
+            else if (aliveTeam != team) return UNDECIDED;
+        }
+        return aliveTeam;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public void setFinished() {
+        this.finished = true;
+    }
+}
@@ -0,0 +1,317 @@
+package org.tekkabyte.eventPlugin.tournament;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+public class Bracket {
+
+    public enum Format { SINGLE, DOUBLE }
+
+    private final Format format;
+    private final boolean grandFinalReset;
+
+    private final List<Entrant> entrants = new ArrayList<>();
+    private final Map<UUID, Entrant> byPlayer = new HashMap<>();
+    private final List<BracketMatch> matches = new ArrayList<>();
+
+    private int rounds;
+    private int byes;
+    private BracketMatch finalMatch;
+    private Entrant champion;
+    private boolean complete;
+
+    public Bracket(Format format, List<List<UUID>> seededTeams, boolean grandFinalReset) {
+        this.format = format;
+        this.grandFinalReset = grandFinalReset;
+
+        for (List<UUID> team : seededTeams) {
+            Entrant e = new Entrant(entrants.size() + 1, team);
+            entrants.add(e);
+            for (UUID uuid : team) byPlayer.put(uuid, e);
+        }
+        build();
+    }
+
+    private void build() {
+        int size = 2;
+        while (size < entrants.size()) size <<= 1;
+        rounds = Integer.numberOfTrailingZeros(size);
+        byes = size - entrants.size();
+
+        List<List<BracketMatch>> wb = new ArrayList<>();
+        for (int r = 1; r <= rounds; r++) {
+            List<BracketMatch> round = new ArrayList<>();
+            for (int i = 0; i < size >> r; i++) round.add(create(BracketMatch.Stage.WINNERS, r, 2 * (r - 1)));
+            wb.add(round);
+        }
+        for (int r = 0; r < rounds - 1; r++) {
+            List<BracketMatch> round = wb.get(r);
+            for (int i = 0; i < round.size(); i++) linkWinner(round.get(i), wb.get(r + 1).get(i / 2), i % 2);
+        }
+
+        BracketMatch wbFinal = wb.get(rounds - 1).get(0);
+        finalMatch = wbFinal;
+
+        if (format == Format.DOUBLE) {
+            int lbRounds = 2 * (rounds - 1);
+            List<List<BracketMatch>> lb = new ArrayList<>();
+            for (int j = 1; j <= lbRounds; j++) {
+                int k = j / 2;
+                int count = j == 1 ? size / 4 : (j % 2 == 0 ? size >> (k + 1) : size >> (k + 2));
+                List<BracketMatch> round = new ArrayList<>();
+                for (int i = 0; i < count; i++) round.add(create(BracketMatch.Stage.LOSERS, j, j));
+                lb.add(round);
+            }
+
+            for (int j = 1; j <= lbRounds; j++) {
+                List<BracketMatch> round = lb.get(j - 1);
+                if (j == 1) {
+                    List<BracketMatch> dropping = wb.get(0);
+                    for (int i = 0; i < dropping.size(); i++) linkLoser(dropping.get(i), round.get(i / 2), i % 2);
+                } else if (j % 2 == 0) {
+                    int k = j / 2;
+                    List<BracketMatch> previous = lb.get(j - 2);
+                    for (int i = 0; i < previous.size(); i++) linkWinner(previous.get(i), round.get(i), 0);
+
+                    // Alternate the drop-in order so losers don't immediately meet the same side again
+                    List<BracketMatch> dropping = wb.get(k);
+                    for (int i = 0; i < dropping.size(); i++) {
+                        int target = k % 2 == 1 ? round.size() - 1 - i : i;
+                        linkLoser(dropping.get(i), round.get(target), 1);
+                    }
+                } else {
+                    List<BracketMatch> previous = lb.get(j - 2);
+                    for (int i = 0; i < previous.size(); i++) linkWinner(previous.get(i), round.get(i / 2), i % 2);
+                }
+            }
+
+            BracketMatch grandFinal = create(BracketMatch.Stage.GRAND_FINAL, 1, lbRounds + 1);
+            linkWinner(wbFinal, grandFinal, 0);
+            if (lb.isEmpty()) linkLoser(wbFinal, grandFinal, 1);
+            else linkWinner(lb.get(lbRounds - 1).get(0), grandFinal, 1);
+            finalMatch = grandFinal;
+        }
+
+        int[] order = seedOrder(size);
+        List<BracketMatch> first = wb.get(0);
+        for (int i = 0; i < first.size(); i++) {
+            fill(first.get(i), 0, entrantForSeed(order[2 * i]));
+            fill(first.get(i), 1, entrantForSeed(order[2 * i + 1]));
+        }
+    }
+
+    private BracketMatch create(BracketMatch.Stage stage, int round, int order) {
+        BracketMatch m = new BracketMatch(matches.size() + 1, stage, round, order);
+        matches.add(m);
+        return m;
+    }
+
+    private static void linkWinner(BracketMatch from, BracketMatch to, int slot) {
+        from.winnerTo = to;
+        from.winnerSlot = slot;
+    }
+
+    private static void linkLoser(BracketMatch from, BracketMatch to, int slot) {
+        from.loserTo = to;
+        from.loserSlot = slot;
+    }
+
+    private Entrant entrantForSeed(int seed) {
+        return seed <= entrants.size() ? entrants.get(seed - 1) : null;
+    }
+
+    static int[] seedOrder(int size) {
+        int[] order = {1, 2};
+        while (order.length < size) {
+            int next = order.length * 2;
+            int[] expanded = new int[next];
+            for (int i = 0; i < order.length; i++) {
+                expanded[2 * i] = order[i];
+                expanded[2 * i + 1] = next + 1 - order[i];
+            }
+            order = expanded;
+        }
+        return order;
+    }
+
+    private void fill(BracketMatch m, int slot, Entrant e) {
+        m.slots[slot] = e;
+        m.decided[slot] = true;
+        settle(m);
+    }
+
+    private void settle(BracketMatch m) {
+        if (m.state != BracketMatch.State.PENDING || !m.decided[0] || !m.decided[1]) return;
+
+        boolean a = isPresent(m.slots[0]);
+        boolean b = isPresent(m.slots[1]);
+        if (a && b) {
+            m.state = BracketMatch.State.READY;
+            return;
+        }
+        finish(m, a ? 0 : b ? 1 : -1, true);
+    }
+
+    private static boolean isPresent(Entrant e) {
+        return e != null && !e.isWithdrawn();
+    }
+
+    private void finish(BracketMatch m, int winnerSlot, boolean walkover) {
+        m.state = BracketMatch.State.DONE;
+        m.walkover = walkover;
+
+        Entrant winner = winnerSlot >= 0 ? m.slots[winnerSlot] : null;
+        m.winner = winner;
+
+        if (winnerSlot < 0) {
+            for (Entrant e : m.slots) {
+                if (e == null) continue;
+                e.addLoss();
+                e.setEliminated();
+            }
+            advance(m, null, null);
+            return;
+        }
+
+        Entrant loser = m.slots[1 - winnerSlot];
+        if (loser != null) loser.addLoss();
+
+        if (m == finalMatch && m.getStage() == BracketMatch.Stage.GRAND_FINAL && grandFinalReset
+                && winnerSlot == 1 && loser != null && m.getRound() == 1) {
+            BracketMatch reset = create(BracketMatch.Stage.GRAND_FINAL, 2, m.getOrder() + 1);
+            finalMatch = reset;
+            fill(reset, 0, m.slots[0]);
+            fill(reset, 1, m.slots[1]);
+            return;
+        }
+
+        advance(m, winner, loser);
+    }
+
+    private void advance(BracketMatch m, Entrant winner, Entrant loser) {
+        if (m == finalMatch) {
+            champion = winner;
+            complete = true;
+            if (loser != null) loser.setEliminated();
+            return;
+        }
+
+        if (m.winnerTo != null) fill(m.winnerTo, m.winnerSlot, winner);
+
+        if (m.loserTo != null) fill(m.loserTo, m.loserSlot, loser);
+        else if (loser != null) loser.setEliminated();
+    }
+
+    public BracketMatch nextReady() {
+        BracketMatch best = null;
+        for (BracketMatch m : matches) {
+            if (m.state != BracketMatch.State.READY) continue;
+            if (best == null || m.getOrder() < best.getOrder()) best = m;
+        }
+        return best;
+    }
+
+    public void markLive(BracketMatch m) {
+        if (m.state == BracketMatch.State.READY) m.state = BracketMatch.State.LIVE;
+    }
+
+    public void report(BracketMatch m, int winnerSlot) {
+        if (m.state != BracketMatch.State.LIVE && m.state != BracketMatch.State.READY) return;
+        finish(m, winnerSlot, false);
+    }
+
+    public void forfeit(BracketMatch m, int winnerSlot) {
+        if (m.state != BracketMatch.State.LIVE && m.state != BracketMatch.State.READY) return;
+        for (int slot = 0; slot < 2; slot++) {
+            if (slot != winnerSlot && m.slots[slot] != null) m.slots[slot].setWithdrawn();
+        }
+        finish(m, winnerSlot, true);
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public int getByes() {
+        return byes;
+    }
+
+    public List<Entrant> getEntrants() {
+        return Collections.unmodifiableList(entrants);
+    }
+
+    public List<BracketMatch> getMatches() {
+        return Collections.unmodifiableList(matches);
+    }
+
+    public Entrant getEntrant(UUID uuid) {
+        return byPlayer.get(uuid);
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public Entrant getChampion() {
+        return champion;
+    }
+
+    public String label(BracketMatch m) {
+        switch (m.getStage()) {
+            case LOSERS:
+                return "Losers R" + m.getRound();
+            case GRAND_FINAL:
+                return m.getRound() > 1 ? "Grand Final (reset)" : "Grand Final";
+            default:
+                if (m.getRound() == rounds) return format == Format.DOUBLE ? "Winners Final" : "Final";
+                if (m.getRound() == rounds - 1) return format == Format.DOUBLE ? "Winners Semifinal" : "Semifinal";
+                return (format == Format.DOUBLE ? "Winners R" : "Round ") + m.getRound();
+        }
+    }
+
+    public List<String> describe(Function<Entrant, String> names, int maxUpcoming) {
+        List<String> out = new ArrayList<>();
+
+        int played = 0;
+        int total = 0;
+        for (BracketMatch m : matches) {
+            if (m.state == BracketMatch.State.DONE && m.walkover) continue;
+            total++;
+            if (m.state == BracketMatch.State.DONE) played++;
+        }
+
+        out.add("§e[Tournament] " + (format == Format.DOUBLE ? "Double" : "Single") + " elimination: "
+                + entrants.size() + " entrants, " + byes + " byes, " + played + "/" + total + " matches played");
+
+        if (complete) {
+            out.add("§6Champion: §e" + (champion == null ? "none" : names.apply(champion)));
+            return out;
+        }
+
+        List<BracketMatch> upcoming = new ArrayList<>();
+        for (BracketMatch m : matches) {
+            if (m.state == BracketMatch.State.LIVE) {
+                out.add("§a● " + label(m) + ": §r" + names.apply(m.slots[0]) + " §7vs§r " + names.apply(m.slots[1]));
+            } else if (m.state == BracketMatch.State.READY) {
+                upcoming.add(m);
+            }
+        }
+
+        upcoming.sort((x, y) -> Integer.compare(x.getOrder(), y.getOrder()));
+        for (int i = 0; i < upcoming.size() && i < maxUpcoming; i++) {
+            BracketMatch m = upcoming.get(i);
+            out.add("§7○ " + label(m) + ": " + names.apply(m.slots[0]) + " vs " + names.apply(m.slots[1]));
+        }
+        if (upcoming.size() > maxUpcoming) out.add("§7  ... and " + (upcoming.size() - maxUpcoming) + " more waiting");
+        return out;
+    }
+}
@@ -0,0 +1,64 @@
+package org.tekkabyte.eventPlugin.tournament;
+
+public class BracketMatch {
+
+    public enum Stage { WINNERS, LOSERS, GRAND_FINAL }
+
+    public enum State { PENDING, READY, LIVE, DONE }
+
+    private final int id;
+    private final Stage stage;
+    private final int round;
+    private final int order;
+
+    final Entrant[] slots = new Entrant[2];
+    final boolean[] decided = new boolean[2];
+
+    BracketMatch winnerTo;
+    int winnerSlot;
+    BracketMatch loserTo;
+    int loserSlot;
+
+    State state = State.PENDING;
+    Entrant winner;
+    boolean walkover;
+
+    BracketMatch(int id, Stage stage, int round, int order) {
+        this.id = id;
+        this.stage = stage;
+        this.round = round;
+        this.order = order;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    int getOrder() {
+        return order;
+    }
+
+    public Entrant getEntrant(int slot) {
+        return slots[slot];
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Entrant getWinner() {
+        return winner;
+    }
+
+    public boolean isWalkover() {
+        return walkover;
+    }
+}
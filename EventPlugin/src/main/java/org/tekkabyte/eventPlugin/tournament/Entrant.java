@@ -0,0 +1,51 @@
+package org.tekkabyte.eventPlugin.tournament;
+
+import java.util.List;
+import java.util.UUID;
+
+public class Entrant {
+
+    private final int seed;
+    private final List<UUID> members;
+
+    private int losses;
+    private boolean eliminated;
+    private boolean withdrawn;
+
+    public Entrant(int seed, List<UUID> members) {
+        this.seed = seed;
+        this.members = List.copyOf(members);
+    }
+
+    public int getSeed() {
+        return seed;
+    }
+
+    public List<UUID> getMembers() {
+        return members;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    void addLoss() {
+        losses++;
+    }
+
+    public boolean isEliminated() {
+        return eliminated;
+    }
+
+    void setEliminated() {
+        this.eliminated = true;
+    }
+
+    public boolean isWithdrawn() {
+        return withdrawn;
+    }
+
+    void setWithdrawn() {
+        this.withdrawn = true;
+    }
+}
@@ -0,0 +1,141 @@
+package org.tekkabyte.eventPlugin.utils;
+
+import org.bukkit.inventory.ItemStack;
+import org.tekkabyte.eventPlugin.models.CustomRecipe;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public final class CodecBenchmark {
+
+    private static final int MIN_WARMUP_ROUNDS = 20;
+
+    private CodecBenchmark() {}
+
+    // Copies the recipe items so the timed part can run off the main thread
+    public static List<Sample> capture(List<CustomRecipe> recipes) {
+        List<Sample> out = new ArrayList<>(recipes.size());
+        for (CustomRecipe r : recipes) {
+            ItemStack result = r.getResult();
+            List<ItemStack> materials = new ArrayList<>();
+            for (ItemStack it : r.getMaterials()) materials.add(it == null ? null : it.clone());
+            out.add(new Sample(result == null ? null : result.clone(), materials));
+        }
+        return out;
+    }
+
+    public static List<String> run(List<Sample> samples, int iterations) {
+        List<String> report = new ArrayList<>();
+        if (samples == null || samples.isEmpty()) {
+            report.add("No recipes loaded to benchmark.");
+            return report;
+        }
+
+        int rounds = Math.max(1, iterations);
+
+        List<String> legacyResults = new ArrayList<>(samples.size());
+        List<String> legacyMaterials = new ArrayList<>(samples.size());
+        List<byte[]> binaryResults = new ArrayList<>(samples.size());
+        List<byte[]> binaryMaterials = new ArrayList<>(samples.size());
+
+        long legacyBytes = 0;
+        long binaryBytes = 0;
+        for (Sample s : samples) {
+            String lr = ItemStackCodec.encodeLegacy(s.result());
+            String lm = ItemStackCodec.encodeLegacyList(s.materials());
+            byte[] br = ItemStackCodec.encode(s.result());
+            byte[] bm = ItemStackCodec.encodeList(s.materials());
+
+            legacyResults.add(lr);
+            legacyMaterials.add(lm);
+            binaryResults.add(br);
+            binaryMaterials.add(bm);
+
+            legacyBytes += lr.getBytes(StandardCharsets.UTF_8).length + lm.getBytes(StandardCharsets.UTF_8).length;
+            binaryBytes += br.length + bm.length;
+        }
+
+        // Warm both codecs up before timing so neither pays for JIT compilation
+        int warmup = Math.max(MIN_WARMUP_ROUNDS, rounds / 5);
+        int[] sink = {0};
+        for (int i = 0; i < warmup; i++) {
+            encodeLegacy(samples);
+            encodeBinary(samples);
+            sink[0] += decodeLegacy(legacyResults, legacyMaterials) + decodeBinary(binaryResults, binaryMaterials);
+        }
+        sink[0] = 0;
+
+        // Alternate which codec goes first each round so ordering effects cancel out
+        long legacyEncode = 0, binaryEncode = 0, legacyDecode = 0, binaryDecode = 0;
+        for (int i = 0; i < rounds; i++) {
+            if ((i & 1) == 0) {
+                legacyEncode += time(() -> encodeLegacy(samples));
+                binaryEncode += time(() -> encodeBinary(samples));
+                legacyDecode += time(() -> sink[0] += decodeLegacy(legacyResults, legacyMaterials));
+                binaryDecode += time(() -> sink[0] += decodeBinary(binaryResults, binaryMaterials));
+            } else {
+                binaryEncode += time(() -> encodeBinary(samples));
+                legacyEncode += time(() -> encodeLegacy(samples));
+                binaryDecode += time(() -> sink[0] += decodeBinary(binaryResults, binaryMaterials));
+                legacyDecode += time(() -> sink[0] += decodeLegacy(legacyResults, legacyMaterials));
+            }
+        }
+
+        long rows = (long) samples.size() * rounds;
+
+        report.add("Codec benchmark: " + samples.size() + " recipes x " + rounds + " rounds after " + warmup
+                + " warmup rounds (" + sink[0] + " items decoded)");
+        report.add("Encode  legacy: " + rate(rows, legacyEncode) + "  binary: " + rate(rows, binaryEncode));
+        report.add("Decode  legacy: " + rate(rows, legacyDecode) + "  binary: " + rate(rows, binaryDecode));
+        report.add("Avg row legacy: " + (legacyBytes / samples.size()) + " B  binary: " + (binaryBytes / samples.size()) + " B");
+        return report;
+    }
+
+    private static long time(Runnable pass) {
+        long start = System.nanoTime();
+        pass.run();
+        return System.nanoTime() - start;
+    }
+
+    private static void encodeLegacy(List<Sample> samples) {
+        for (Sample s : samples) {
+            ItemStackCodec.encodeLegacy(s.result());
+            ItemStackCodec.encodeLegacyList(s.materials());
+        }
+    }
+
+    private static void encodeBinary(List<Sample> samples) {
+        for (Sample s : samples) {
+            ItemStackCodec.encode(s.result());
+            ItemStackCodec.encodeList(s.materials());
+        }
+    }
+
+    private static int decodeLegacy(List<String> results, List<String> materials) {
+        int decoded = 0;
+        for (int j = 0; j < results.size(); j++) {
+            ItemStack it = ItemStackCodec.decodeLegacy(results.get(j));
+            decoded += (it == null ? 0 : 1) + ItemStackCodec.decodeLegacyList(materials.get(j)).size();
+        }
+        return decoded;
+    }
+
+    private static int decodeBinary(List<byte[]> results, List<byte[]> materials) {
+        int decoded = 0;
+        for (int j = 0; j < results.size(); j++) {
+            ItemStack it = ItemStackCodec.decode(results.get(j));
+            decoded += (it == null ? 0 : 1) + ItemStackCodec.decodeList(materials.get(j)).size();
+        }
+        return decoded;
+    }
+
+    private static String rate(long rows, long nanos) {
+        if (nanos <= 0) return "n/a";
+        double perSecond = rows / (nanos / 1_000_000_000.0);
+        return String.format(Locale.ROOT, "%.0f rows/s", perSecond);
+    }
+
+    public record Sample(ItemStack result, List<ItemStack> materials) {}
+}
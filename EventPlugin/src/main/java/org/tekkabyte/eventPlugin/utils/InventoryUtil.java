@@ -0,0 +1,38 @@
+package org.tekkabyte.eventPlugin.utils;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class InventoryUtil {
+
+    private InventoryUtil() {}
+
+    // Splits `total` copies of the item into stacks no larger than its max stack size
+    public static List<ItemStack> splitStacks(ItemStack item, long total) {
+        List<ItemStack> out = new ArrayList<>();
+        if (item == null || item.getType().isAir() || total <= 0) return out;
+
+        int max = Math.max(1, item.getMaxStackSize());
+        while (total > 0) {
+            int size = (int) Math.min(max, total);
+            ItemStack stack = item.clone();
+            stack.setAmount(size);
+            out.add(stack);
+            total -= size;
+        }
+        return out;
+    }
+
+    // Returns true if anything had to be dropped
+    public static boolean giveOrDrop(Player player, List<ItemStack> stacks) {
+        if (stacks.isEmpty()) return false;
+
+        Map<Integer, ItemStack> leftover = player.getInventory().addItem(stacks.toArray(new ItemStack[0]));
+        for (ItemStack item : leftover.values()) player.getWorld().dropItemNaturally(player.getLocation(), item);
+        return !leftover.isEmpty();
+    }
+}
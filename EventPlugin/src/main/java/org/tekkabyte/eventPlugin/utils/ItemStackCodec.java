@@ -0,0 +1,205 @@
+package org.tekkabyte.eventPlugin.utils;
+
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.io.BukkitObjectInputStream;
+import org.bukkit.util.io.BukkitObjectOutputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+public final class ItemStackCodec {
+
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private ItemStackCodec() {}
+
+    // Single item: [version][ItemStack#serializeAsBytes]
+    public static byte[] encode(ItemStack item) {
+        if (item == null || item.getType().isAir()) return EMPTY;
+
+        byte[] body = item.serializeAsBytes();
+        byte[] out = new byte[body.length + 1];
+        out[0] = FORMAT_VERSION;
+        System.arraycopy(body, 0, out, 1, body.length);
+        return out;
+    }
+
+    public static ItemStack decode(byte[] data) {
+        if (data == null || data.length < 2) return null;
+        if (data[0] != FORMAT_VERSION) return null;
+
+        try {
+            byte[] body = new byte[data.length - 1];
+            System.arraycopy(data, 1, body, 0, body.length);
+            return ItemStack.deserializeBytes(body);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    // List: [version][varint count] then [varint length][item bytes] per entry
+    public static byte[] encodeList(List<ItemStack> items) {
+        if (items == null || items.isEmpty()) return EMPTY;
+
+        List<byte[]> bodies = new ArrayList<>(items.size());
+        for (ItemStack it : items) {
+            if (it == null || it.getType().isAir()) continue;
+            bodies.add(it.serializeAsBytes());
+        }
+        if (bodies.isEmpty()) return EMPTY;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(FORMAT_VERSION);
+        writeVarInt(out, bodies.size());
+        for (byte[] body : bodies) {
+            writeVarInt(out, body.length);
+            out.write(body, 0, body.length);
+        }
+        return out.toByteArray();
+    }
+
+    public static List<ItemStack> decodeList(byte[] data) {
+        List<ItemStack> out = new ArrayList<>();
+        if (data == null || data.length < 2) return out;
+        if (data[0] != FORMAT_VERSION) return out;
+
+        int[] cursor = {1};
+        try {
+            int count = readVarInt(data, cursor);
+            for (int i = 0; i < count; i++) {
+                int len = readVarInt(data, cursor);
+                if (len < 0 || cursor[0] + len > data.length) break;
+
+                byte[] body = new byte[len];
+                System.arraycopy(data, cursor[0], body, 0, len);
+                cursor[0] += len;
+
+                try {
+                    out.add(ItemStack.deserializeBytes(body));
+                } catch (Throwable ignored) {}
+            }
+        } catch (IndexOutOfBoundsException ignored) {}
+        return out;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(byte[] data, int[] cursor) {
+        int value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = data[cursor[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+            shift += 7;
+            if (shift > 28) throw new IndexOutOfBoundsException("VarInt too long");
+        }
+    }
+
+    // Slots: [version][varint count] then [varint length][item bytes] per slot, length 0 for an empty slot
+    public static byte[] encodeSlots(ItemStack[] slots) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(FORMAT_VERSION);
+        writeVarInt(out, slots == null ? 0 : slots.length);
+        if (slots != null) {
+            for (ItemStack it : slots) {
+                if (it == null || it.getType().isAir()) {
+                    writeVarInt(out, 0);
+                    continue;
+                }
+                byte[] body = it.serializeAsBytes();
+                writeVarInt(out, body.length);
+                out.write(body, 0, body.length);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    // All or nothing: returns null if the data is truncated or any slot fails to deserialize
+    public static ItemStack[] decodeSlots(byte[] data) {
+        if (data == null || data.length < 2 || data[0] != FORMAT_VERSION) return null;
+
+        int[] cursor = {1};
+        try {
+            int count = readVarInt(data, cursor);
+            if (count < 0 || count > data.length) return null;
+
+            ItemStack[] out = new ItemStack[count];
+            for (int i = 0; i < out.length; i++) {
+                int len = readVarInt(data, cursor);
+                if (len == 0) continue;
+                if (len < 0 || cursor[0] + len > data.length) return null;
+
+                byte[] body = new byte[len];
+                System.arraycopy(data, cursor[0], body, 0, len);
+                cursor[0] += len;
+
+                out[i] = ItemStack.deserializeBytes(body);
+                if (out[i] == null) return null;
+            }
+            return cursor[0] == data.length ? out : null;
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    // Legacy text format: Base64(BukkitObjectOutputStream), materials joined with '|'
+    public static String encodeLegacy(ItemStack item) {
+        if (item == null) return "";
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (BukkitObjectOutputStream out = new BukkitObjectOutputStream(baos)) {
+                out.writeObject(item);
+            }
+            return Base64.getEncoder().encodeToString(baos.toByteArray());
+        } catch (Throwable t) {
+            return "";
+        }
+    }
+
+    public static String encodeLegacyList(List<ItemStack> items) {
+        if (items == null || items.isEmpty()) return "";
+        StringBuilder sb = new StringBuilder();
+        for (ItemStack it : items) {
+            if (it == null) continue;
+            if (sb.length() > 0) sb.append("|");
+            sb.append(encodeLegacy(it));
+        }
+        return sb.toString();
+    }
+
+    public static ItemStack decodeLegacy(String data) {
+        if (data == null || data.isEmpty()) return null;
+        try {
+            byte[] bytes = Base64.getDecoder().decode(data);
+            try (BukkitObjectInputStream in = new BukkitObjectInputStream(new ByteArrayInputStream(bytes))) {
+                Object obj = in.readObject();
+                return (ItemStack) obj;
+            }
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    public static List<ItemStack> decodeLegacyList(String data) {
+        List<ItemStack> out = new ArrayList<>();
+        if (data == null || data.isEmpty()) return out;
+        String[] parts = data.split("\\|");
+        for (String p : parts) {
+            ItemStack it = decodeLegacy(p);
+            if (it != null) out.add(it);
+        }
+        return out;
+    }
+}
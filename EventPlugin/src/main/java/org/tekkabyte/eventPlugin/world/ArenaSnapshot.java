@@ -0,0 +1,154 @@
+package org.tekkabyte.eventPlugin.world;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.AbstractArrow;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.ExperienceOrb;
+import org.bukkit.entity.FallingBlock;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.TNTPrimed;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.BoundingBox;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class ArenaSnapshot {
+
+    private final Plugin plugin;
+    private final World world;
+    private final int minX, minY, minZ, maxX, maxY, maxZ;
+
+    private final Map<Long, ChunkSnapshot> chunks = new HashMap<>();
+    private final Set<Long> dirty = new LinkedHashSet<>();
+
+    private CompletableFuture<Integer> restoring;
+    private BukkitTask task;
+    private int restored;
+
+    private ArenaSnapshot(Plugin plugin, World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.plugin = plugin;
+        this.world = world;
+        this.minX = Math.min(minX, maxX);
+        this.minY = Math.max(world.getMinHeight(), Math.min(minY, maxY));
+        this.minZ = Math.min(minZ, maxZ);
+        this.maxX = Math.max(minX, maxX);
+        this.maxY = Math.min(world.getMaxHeight() - 1, Math.max(minY, maxY));
+        this.maxZ = Math.max(minZ, maxZ);
+    }
+
+    public static ArenaSnapshot capture(Plugin plugin, World world, int minX, int minZ, int maxX, int maxZ) {
+        ArenaSnapshot snapshot = new ArenaSnapshot(plugin, world,
+                minX, world.getMinHeight(), minZ, maxX, world.getMaxHeight() - 1, maxZ);
+
+        for (int cx = snapshot.minX >> 4; cx <= snapshot.maxX >> 4; cx++) {
+            for (int cz = snapshot.minZ >> 4; cz <= snapshot.maxZ >> 4; cz++) {
+                Chunk chunk = world.getChunkAt(cx, cz);
+                snapshot.chunks.put(Chunk.getChunkKey(cx, cz), chunk.getChunkSnapshot(false, false, false));
+            }
+        }
+        return snapshot;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public int getChunkCount() {
+        return chunks.size();
+    }
+
+    public int getDirtyCount() {
+        return dirty.size();
+    }
+
+    public boolean contains(Block block) {
+        if (block.getWorld() != world) return false;
+        int x = block.getX(), y = block.getY(), z = block.getZ();
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
+    public void markChanged(Block block) {
+        if (contains(block)) dirty.add(block.getBlockKey());
+    }
+
+    public CompletableFuture<Integer> restore(int blocksPerTick) {
+        if (restoring != null) return restoring;
+
+        clearLooseEntities();
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        restoring = future;
+        restored = 0;
+
+        if (!plugin.isEnabled()) {
+            drain(Integer.MAX_VALUE);
+            finish();
+            return future;
+        }
+
+        int budget = Math.max(1, blocksPerTick);
+        task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            drain(budget);
+            if (dirty.isEmpty()) finish();
+        }, 0L, 1L);
+        return future;
+    }
+
+    public void cancel() {
+        if (restoring != null) finish();
+        dirty.clear();
+    }
+
+    private void drain(int budget) {
+        Iterator<Long> it = dirty.iterator();
+        while (budget-- > 0 && it.hasNext()) {
+            long key = it.next();
+            it.remove();
+            if (resetBlock(key)) restored++;
+        }
+    }
+
+    private boolean resetBlock(long key) {
+        int x = Block.getBlockKeyX(key);
+        int y = Block.getBlockKeyY(key);
+        int z = Block.getBlockKeyZ(key);
+
+        ChunkSnapshot snapshot = chunks.get(Chunk.getChunkKey(x >> 4, z >> 4));
+        if (snapshot == null) return false;
+
+        BlockData original = snapshot.getBlockData(x & 15, y, z & 15);
+        Block block = world.getBlockAt(x, y, z);
+        if (block.getBlockData().equals(original)) return false;
+
+        block.setBlockData(original, false);
+        return true;
+    }
+
+    private void clearLooseEntities() {
+        BoundingBox box = new BoundingBox(minX, minY, minZ, maxX + 1, maxY + 1, maxZ + 1);
+        for (Entity entity : world.getNearbyEntities(box, e -> e instanceof Item || e instanceof AbstractArrow
+                || e instanceof ExperienceOrb || e instanceof TNTPrimed || e instanceof FallingBlock)) {
+            entity.remove();
+        }
+    }
+
+    private void finish() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        CompletableFuture<Integer> future = restoring;
+        restoring = null;
+        if (future != null) future.complete(restored);
+    }
+}
@@ -0,0 +1,101 @@
+package org.tekkabyte.eventPlugin.world;
+
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncWorldCleaner {
+
+    private static final String TRASH_MARKER = "_evtrash_";
+
+    private final Plugin plugin;
+    private final ExecutorService executor;
+
+    public AsyncWorldCleaner(Plugin plugin) {
+        this.plugin = plugin;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "EventPlugin-World-Cleaner");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public CompletableFuture<Void> delete(Path folder) {
+        if (folder == null || !Files.exists(folder)) return CompletableFuture.completedFuture(null);
+
+        // Renaming is cheap and frees the world name immediately; the slow walk happens off-thread.
+        Path target = folder;
+        if (!isTrash(folder)) {
+            Path trash = folder.resolveSibling(folder.getFileName() + TRASH_MARKER + System.nanoTime());
+            try {
+                target = Files.move(folder, trash, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException | UnsupportedOperationException ignored) {}
+        }
+
+        Path toDelete = target;
+        try {
+            return CompletableFuture.runAsync(() -> deleteNow(toDelete), executor);
+        } catch (RejectedExecutionException e) {
+            deleteNow(toDelete);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    public static boolean isTrash(Path folder) {
+        return folder.getFileName().toString().contains(TRASH_MARKER);
+    }
+
+    private void deleteNow(Path folder) {
+        long started = System.currentTimeMillis();
+        try {
+            Files.walkFileTree(folder, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    Files.deleteIfExists(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                    if (exc instanceof NoSuchFileException) return FileVisitResult.CONTINUE;
+                    throw exc;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                    if (exc != null && !(exc instanceof NoSuchFileException)) throw exc;
+                    Files.deleteIfExists(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            plugin.getLogger().info("[Worlds] Deleted " + folder.getFileName() + " in " + (System.currentTimeMillis() - started) + "ms");
+        } catch (IOException e) {
+            plugin.getLogger().warning("[Worlds] Failed to delete " + folder + ": " + e.getMessage());
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("[Worlds] World cleanup did not finish in time; leftover folders will be removed next start.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.tekkabyte.eventPlugin.world;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class BlockPlacementJob {
+
+    private final Plugin plugin;
+    private final World world;
+    private final int blocksPerTick;
+
+    private final List<Placement> placements = new ArrayList<>();
+    private final Set<Long> chunks = new LinkedHashSet<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private BukkitTask task;
+    private int cursor;
+    private boolean started;
+    private boolean cancelled;
+
+    public BlockPlacementJob(Plugin plugin, World world, int blocksPerTick) {
+        this.plugin = plugin;
+        this.world = world;
+        this.blocksPerTick = Math.max(1, blocksPerTick);
+    }
+
+    public BlockPlacementJob set(int x, int y, int z, Material type) {
+        placements.add(new Placement(x, y, z, type));
+        chunks.add(chunkKey(x >> 4, z >> 4));
+        return this;
+    }
+
+    public BlockPlacementJob fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, Material type) {
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) set(x, y, z, type);
+            }
+        }
+        return this;
+    }
+
+    public int size() {
+        return placements.size();
+    }
+
+    public CompletableFuture<Void> start() {
+        if (started) return completion;
+        started = true;
+
+        List<CompletableFuture<?>> loads = new ArrayList<>(chunks.size());
+        for (long key : chunks) {
+            int cx = (int) (key >> 32);
+            int cz = (int) key;
+            loads.add(world.getChunkAtAsync(cx, cz, true).thenAccept(chunk -> {
+                if (!cancelled) world.addPluginChunkTicket(cx, cz, plugin);
+            }));
+        }
+
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).whenComplete((v, t) ->
+                Bukkit.getScheduler().runTask(plugin, () -> {
+                    if (cancelled) return;
+                    if (t != null) {
+                        finish(t);
+                        return;
+                    }
+                    task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 0L, 1L);
+                }));
+
+        return completion;
+    }
+
+    public void cancel() {
+        if (cancelled || completion.isDone()) return;
+        cancelled = true;
+        finish(new IllegalStateException("Block placement cancelled"));
+    }
+
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    private void tick() {
+        int end = Math.min(placements.size(), cursor + blocksPerTick);
+        for (; cursor < end; cursor++) {
+            Placement p = placements.get(cursor);
+            world.getBlockAt(p.x, p.y, p.z).setType(p.type, false);
+        }
+
+        if (cursor >= placements.size()) finish(null);
+    }
+
+    private void finish(Throwable error) {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        if (Bukkit.isPrimaryThread()) releaseTickets();
+        else Bukkit.getScheduler().runTask(plugin, this::releaseTickets);
+
+        if (error == null) completion.complete(null);
+        else completion.completeExceptionally(error);
+    }
+
+    private void releaseTickets() {
+        for (long key : chunks) {
+            world.removePluginChunkTicket((int) (key >> 32), (int) key, plugin);
+        }
+    }
+
+    private static long chunkKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private record Placement(int x, int y, int z, Material type) {}
+}
@@ -0,0 +1,146 @@
+package org.tekkabyte.eventPlugin.world;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+public class ChunkPregenerator {
+
+    private final Plugin plugin;
+    private final World world;
+    private final int centerChunkX;
+    private final int centerChunkZ;
+    private final int radiusChunks;
+    private final int maxConcurrent;
+    private final double minTps;
+
+    private final long total;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private int x, z, dx, dz = -1;
+    private long issued;
+    private long completed;
+    private int inFlight;
+
+    private long startedAt;
+    private boolean throttled;
+    private boolean stopped;
+    private BukkitTask task;
+
+    public ChunkPregenerator(Plugin plugin, World world, int centerX, int centerZ, int radiusBlocks,
+                             int maxConcurrent, double minTps) {
+        this.plugin = plugin;
+        this.world = world;
+        this.centerChunkX = centerX >> 4;
+        this.centerChunkZ = centerZ >> 4;
+        this.radiusChunks = Math.max(0, (radiusBlocks + 15) >> 4);
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.minTps = minTps;
+
+        long side = 2L * radiusChunks + 1;
+        this.total = side * side;
+    }
+
+    public CompletableFuture<Void> start() {
+        if (task != null || completion.isDone()) return completion;
+
+        startedAt = System.currentTimeMillis();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        return completion;
+    }
+
+    public void stop() {
+        if (completion.isDone()) return;
+        stopped = true;
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        completion.complete(null);
+    }
+
+    private void tick() {
+        if (stopped) return;
+
+        throttled = minTps > 0 && Bukkit.getTPS()[0] < minTps;
+        int limit = throttled ? 1 : maxConcurrent;
+
+        while (inFlight < limit && issued < total) {
+            int chunkX = centerChunkX + x;
+            int chunkZ = centerChunkZ + z;
+            advance();
+
+            issued++;
+            inFlight++;
+            world.getChunkAtAsync(chunkX, chunkZ, true).whenComplete((chunk, t) -> {
+                inFlight--;
+                completed++;
+            });
+        }
+
+        if (completed >= total) {
+            task.cancel();
+            task = null;
+            completion.complete(null);
+        }
+    }
+
+    private void advance() {
+        if (x == z || (x < 0 && x == -z) || (x > 0 && x == 1 - z)) {
+            int t = dx;
+            dx = -dz;
+            dz = t;
+        }
+        x += dx;
+        z += dz;
+    }
+
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    public boolean isRunning() {
+        return task != null && !completion.isDone();
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public double getProgress() {
+        return total == 0 ? 1.0 : (double) completed / total;
+    }
+
+    public double getChunksPerSecond() {
+        long elapsed = System.currentTimeMillis() - startedAt;
+        if (startedAt == 0 || elapsed <= 0) return 0;
+        return completed * 1000.0 / elapsed;
+    }
+
+    public long getEtaSeconds() {
+        double rate = getChunksPerSecond();
+        if (rate <= 0) return -1;
+        return (long) Math.ceil((total - completed) / rate);
+    }
+
+    public String describe() {
+        String state = completion.isDone() ? (stopped ? "stopped" : "done") : (throttled ? "throttled" : "running");
+        long eta = getEtaSeconds();
+        String etaText = completion.isDone() || eta < 0 ? "-" : String.format(Locale.ROOT, "%d:%02d", eta / 60, eta % 60);
+
+        return String.format(Locale.ROOT, "%s: %d/%d chunks (%.1f%%), %.1f chunks/s, ETA %s [%s]",
+                world.getName(), completed, total, getProgress() * 100.0, getChunksPerSecond(), etaText, state);
+    }
+}
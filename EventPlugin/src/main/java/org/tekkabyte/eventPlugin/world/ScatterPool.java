@@ -0,0 +1,162 @@
+package org.tekkabyte.eventPlugin.world;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class ScatterPool {
+
+    private static final int ATTEMPTS_PER_POINT = 20;
+
+    private final Plugin plugin;
+    private final World world;
+    private final int min;
+    private final int max;
+    private final double minSpacing;
+    private final int maxInFlight;
+
+    private final List<Location> points = new ArrayList<>();
+    private final Map<Long, Integer> tickets = new HashMap<>();
+
+    private int target;
+    private int attempts;
+    private int inFlight;
+    private CompletableFuture<Void> filling;
+    private BukkitTask task;
+
+    public ScatterPool(Plugin plugin, World world, int min, int max, double minSpacing, int maxInFlight) {
+        this.plugin = plugin;
+        this.world = world;
+        this.min = min;
+        this.max = max;
+        this.minSpacing = minSpacing;
+        this.maxInFlight = Math.max(1, maxInFlight);
+    }
+
+    public CompletableFuture<Void> fill(int wanted) {
+        target = Math.max(target, wanted);
+        if (points.size() >= target) return CompletableFuture.completedFuture(null);
+
+        if (filling == null || filling.isDone()) {
+            filling = new CompletableFuture<>();
+            attempts = 0;
+        }
+        if (task == null) task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 0L, 1L);
+        return filling;
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    public Location take() {
+        if (points.isEmpty()) return null;
+        Location point = points.remove(0);
+        Bukkit.getScheduler().runTaskLater(plugin, () -> release(point), 20L);
+        return point;
+    }
+
+    public void clear() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        for (long key : tickets.keySet()) {
+            world.removePluginChunkTicket((int) (key >> 32), (int) key, plugin);
+        }
+        tickets.clear();
+        points.clear();
+        if (filling != null) filling.complete(null);
+    }
+
+    private void tick() {
+        int budget = target * ATTEMPTS_PER_POINT;
+
+        while (inFlight < maxInFlight && points.size() + inFlight < target && attempts < budget) {
+            attempts++;
+            probe();
+        }
+
+        boolean satisfied = points.size() >= target;
+        boolean exhausted = attempts >= budget && inFlight == 0;
+        if (satisfied || exhausted) {
+            if (exhausted && !satisfied) {
+                plugin.getLogger().warning("Scatter pool only found " + points.size() + "/" + target + " safe points.");
+            }
+            task.cancel();
+            task = null;
+            filling.complete(null);
+        }
+    }
+
+    private void probe() {
+        int x = ThreadLocalRandom.current().nextInt(min, max + 1);
+        int z = ThreadLocalRandom.current().nextInt(min, max + 1);
+
+        inFlight++;
+        world.getChunkAtAsync(x >> 4, z >> 4, true)
+                .thenApply(chunk -> chunk.getChunkSnapshot(true, false, false))
+                .thenApplyAsync(snapshot -> surfaceY(snapshot, x & 15, z & 15))
+                .whenComplete((y, t) -> Bukkit.getScheduler().runTask(plugin, () -> {
+                    inFlight--;
+                    if (t != null || y == null || task == null) return;
+                    accept(new Location(world, x + 0.5, y, z + 0.5));
+                }));
+    }
+
+    private Integer surfaceY(ChunkSnapshot snapshot, int lx, int lz) {
+        int top = snapshot.getHighestBlockYAt(lx, lz);
+        if (top <= world.getMinHeight() || top + 2 >= world.getMaxHeight()) return null;
+
+        Material below = snapshot.getBlockType(lx, top, lz);
+        if (below == Material.LAVA || below == Material.WATER || !below.isSolid()) return null;
+        if (!snapshot.getBlockType(lx, top + 1, lz).isAir()) return null;
+        if (!snapshot.getBlockType(lx, top + 2, lz).isAir()) return null;
+
+        return top + 1;
+    }
+
+    private void accept(Location point) {
+        double spacing = attempts > target * ATTEMPTS_PER_POINT / 2 ? minSpacing / 2 : minSpacing;
+        double spacingSq = spacing * spacing;
+        for (Location other : points) {
+            if (other.distanceSquared(point) < spacingSq) return;
+        }
+
+        points.add(point);
+
+        int cx = point.getBlockX() >> 4;
+        int cz = point.getBlockZ() >> 4;
+        if (tickets.merge(chunkKey(cx, cz), 1, Integer::sum) == 1) world.addPluginChunkTicket(cx, cz, plugin);
+    }
+
+    private void release(Location point) {
+        int cx = point.getBlockX() >> 4;
+        int cz = point.getBlockZ() >> 4;
+        long key = chunkKey(cx, cz);
+
+        Integer count = tickets.get(key);
+        if (count == null) return;
+        if (count > 1) {
+            tickets.put(key, count - 1);
+        } else {
+            tickets.remove(key);
+            world.removePluginChunkTicket(cx, cz, plugin);
+        }
+    }
+
+    private static long chunkKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,179 @@
+package org.tekkabyte.eventPlugin.world;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class WorldPool {
+
+    private static final String POOL_MARKER = "_evpool_";
+    private static final String READY_FILE = ".pool-ready";
+    private static final Set<String> SKIPPED_FILES = Set.of("uid.dat", "session.lock", READY_FILE);
+
+    private final Plugin plugin;
+    private final AsyncWorldCleaner cleaner;
+    private final Path container;
+    private final ExecutorService executor;
+
+    private final Map<String, Kind> kinds = new LinkedHashMap<>();
+
+    public WorldPool(Plugin plugin, AsyncWorldCleaner cleaner) {
+        this.plugin = plugin;
+        this.cleaner = cleaner;
+        this.container = Bukkit.getWorldContainer().toPath();
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "EventPlugin-World-Pool");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public void register(String kind, Path template, int size) {
+        if (template == null || size <= 0) return;
+        if (!Files.isRegularFile(template.resolve("level.dat"))) {
+            plugin.getLogger().warning("[Worlds] Template for " + kind + " has no level.dat, ignoring: " + template);
+            return;
+        }
+        kinds.put(kind, new Kind(kind, template, size));
+    }
+
+    public boolean hasTemplate(String kind) {
+        return kinds.containsKey(kind);
+    }
+
+    public void start() {
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(container, Files::isDirectory)) {
+            for (Path dir : dirs) {
+                String name = dir.getFileName().toString();
+                if (AsyncWorldCleaner.isTrash(dir)) {
+                    cleaner.delete(dir);
+                    continue;
+                }
+
+                int marker = name.indexOf(POOL_MARKER);
+                if (marker <= 0) continue;
+
+                Kind kind = kinds.get(name.substring(0, marker));
+                if (kind != null && Files.exists(dir.resolve(READY_FILE)) && kind.ready.size() < kind.size) {
+                    kind.ready.add(dir);
+                } else {
+                    cleaner.delete(dir);
+                }
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("[Worlds] Could not scan world folder: " + e.getMessage());
+        }
+
+        for (Kind kind : kinds.values()) {
+            if (!kind.ready.isEmpty()) {
+                plugin.getLogger().info("[Worlds] Reusing " + kind.ready.size() + " prepared " + kind.name + " world(s).");
+            }
+            refill(kind);
+        }
+    }
+
+    public Path take(String kind, String worldName) {
+        Kind k = kinds.get(kind);
+        if (k == null) return null;
+
+        Path target = container.resolve(worldName);
+        if (Files.exists(target)) return null;
+
+        Path prepared;
+        try {
+            while ((prepared = k.ready.poll()) != null) {
+                try {
+                    Files.deleteIfExists(prepared.resolve(READY_FILE));
+                    Files.move(prepared, target, StandardCopyOption.ATOMIC_MOVE);
+                    return target;
+                } catch (IOException | UnsupportedOperationException e) {
+                    plugin.getLogger().warning("[Worlds] Could not use prepared world " + prepared.getFileName() + ": " + e.getMessage());
+                    cleaner.delete(prepared);
+                }
+            }
+            return null;
+        } finally {
+            refill(k);
+        }
+    }
+
+    private void refill(Kind kind) {
+        while (kind.ready.size() + kind.preparing.get() < kind.size) {
+            kind.preparing.incrementAndGet();
+            Path dest = container.resolve(kind.name + POOL_MARKER + System.nanoTime());
+            try {
+                executor.execute(() -> prepare(kind, dest));
+            } catch (RejectedExecutionException e) {
+                kind.preparing.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private void prepare(Kind kind, Path dest) {
+        long started = System.currentTimeMillis();
+        try {
+            copyTree(kind.template, dest);
+            Files.createFile(dest.resolve(READY_FILE));
+            kind.ready.add(dest);
+            plugin.getLogger().info("[Worlds] Prepared " + kind.name + " world from template in "
+                    + (System.currentTimeMillis() - started) + "ms");
+        } catch (IOException e) {
+            plugin.getLogger().warning("[Worlds] Failed to copy " + kind.name + " template: " + e.getMessage());
+            cleaner.delete(dest);
+        } finally {
+            kind.preparing.decrementAndGet();
+        }
+    }
+
+    private static void copyTree(Path source, Path dest) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(dest.resolve(source.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (SKIPPED_FILES.contains(file.getFileName().toString())) return FileVisitResult.CONTINUE;
+                Files.copy(file, dest.resolve(source.relativize(file).toString()), StandardCopyOption.COPY_ATTRIBUTES);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static final class Kind {
+        final String name;
+        final Path template;
+        final int size;
+        final ConcurrentLinkedDeque<Path> ready = new ConcurrentLinkedDeque<>();
+        final AtomicInteger preparing = new AtomicInteger();
+
+        Kind(String name, Path template, int size) {
+            this.name = name;
+            this.template = template;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package org.tekkabyte.eventPlugin.database;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tekkabyte.eventPlugin.EventPlugin;
+import org.tekkabyte.eventPlugin.managers.CraftReservation;
+import org.tekkabyte.eventPlugin.managers.DeliveryManager;
+import org.tekkabyte.eventPlugin.managers.RecipeManager;
+import org.tekkabyte.eventPlugin.models.CustomRecipe;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Drives claims through the write-behind queue into a real (in-memory) SQLite database
+class ClaimUsesConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final String RECIPE = "stress";
+
+    private EventPlugin plugin;
+    private DeliveryManager deliveryManager;
+    private DatabaseManager databaseManager;
+    private Connection keeper;
+
+    @BeforeAll
+    static void installServer() {
+        // CraftReservation asks Bukkit which thread it is on
+        if (Bukkit.getServer() != null) return;
+        Server server = mock(Server.class);
+        when(server.getLogger()).thenReturn(Logger.getLogger("ClaimUsesConcurrencyTest"));
+        when(server.isPrimaryThread()).thenReturn(false);
+        Bukkit.setServer(server);
+    }
+
+    @BeforeEach
+    void open() throws SQLException {
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("database.flush-interval-ms", 50L);
+
+        plugin = mock(EventPlugin.class);
+        deliveryManager = mock(DeliveryManager.class);
+        when(plugin.getConfig()).thenReturn(config);
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("ClaimUsesConcurrencyTest"));
+        when(plugin.getDeliveryManager()).thenReturn(deliveryManager);
+        when(plugin.isEnabled()).thenReturn(false);
+
+        String url = "jdbc:sqlite:file:claims-" + UUID.randomUUID() + "?mode=memory&cache=shared";
+        // a shared in-memory database only lives while a connection to it is open
+        keeper = DriverManager.getConnection(url);
+
+        databaseManager = new DatabaseManager(plugin);
+        databaseManager.initialize(url, "memory");
+        assertTrue(databaseManager.isConnected());
+    }
+
+    @AfterEach
+    void close() throws SQLException {
+        databaseManager.close();
+        keeper.close();
+    }
+
+    private void seed(int maxUses, int uses) throws SQLException {
+        try (PreparedStatement ps = keeper.prepareStatement(
+                "INSERT INTO recipes (id, name, result, materials, max_uses, uses) VALUES (?, 'Stress', x'', x'', ?, ?);")) {
+            ps.setString(1, RECIPE);
+            ps.setInt(2, maxUses);
+            ps.setInt(3, uses);
+            ps.executeUpdate();
+        }
+    }
+
+    private int storedUses() throws SQLException {
+        try (PreparedStatement ps = keeper.prepareStatement("SELECT uses FROM recipes WHERE id = ?;")) {
+            ps.setString(1, RECIPE);
+            try (ResultSet rs = ps.executeQuery()) {
+                assertTrue(rs.next());
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    private static ItemStack material(Material type, int amount) {
+        AtomicInteger size = new AtomicInteger(amount);
+        ItemStack stack = mock(ItemStack.class);
+        when(stack.getType()).thenReturn(type);
+        when(stack.getAmount()).thenAnswer(i -> size.get());
+        when(stack.getMaxStackSize()).thenReturn(64);
+        when(stack.clone()).thenAnswer(i -> material(type, size.get()));
+        doAnswer(i -> {
+            size.set(i.getArgument(0));
+            return null;
+        }).when(stack).setAmount(anyInt());
+        return stack;
+    }
+
+    private static <T> List<T> runConcurrently(int threads, Callable<List<T>> task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<T>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> out = new ArrayList<>();
+            for (Future<List<T>> f : futures) out.addAll(f.get(30, TimeUnit.SECONDS));
+            return out;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void queuedClaimsNeverOversellTheStoredLimit() throws Exception {
+        seed(500, 0);
+
+        List<int[]> claims = runConcurrently(THREADS, () -> {
+            List<int[]> mine = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                int amount = ThreadLocalRandom.current().nextInt(1, 5);
+                CompletableFuture<Boolean> claimed = databaseManager.claimRecipeUses(RECIPE, amount);
+                mine.add(new int[] {amount, claimed.get(30, TimeUnit.SECONDS) ? 1 : 0});
+            }
+            return mine;
+        });
+
+        int accepted = 0;
+        int rejected = 0;
+        for (int[] claim : claims) {
+            if (claim[1] == 1) accepted += claim[0];
+            else rejected++;
+        }
+
+        assertEquals(accepted, storedUses());
+        assertTrue(accepted <= 500, "oversold: " + accepted);
+        assertTrue(rejected > 0);
+        // every rejection left less room than the claim it turned away, and no claim asked for more than 4
+        assertTrue(accepted > 500 - 4, "under-filled: " + accepted);
+    }
+
+    @Test
+    void rejectedReservationsAreRolledBackAndRefunded() throws Exception {
+        // another writer has used all but 10 crafts; this server's in-memory count hasn't caught up
+        seed(1_000, 990);
+        CustomRecipe recipe = new CustomRecipe(RECIPE, "Stress", material(Material.DIAMOND_SWORD, 1),
+                List.of(material(Material.DIAMOND, 2)), 1_000, 0);
+        RecipeManager recipeManager = new RecipeManager(plugin, databaseManager);
+        UUID crafter = UUID.randomUUID();
+
+        Queue<List<ItemStack>> refunds = new ConcurrentLinkedQueue<>();
+        when(deliveryManager.deliver(eq(crafter), any())).thenAnswer(i -> {
+            refunds.add(i.getArgument(1));
+            return DeliveryManager.Outcome.HELD;
+        });
+
+        List<CompletableFuture<Boolean>> outcomes = runConcurrently(THREADS, () -> {
+            List<CompletableFuture<Boolean>> mine = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                CraftReservation reservation = recipeManager.reserveCraft(recipe, 1);
+                assertNotNull(reservation);
+
+                CompletableFuture<Boolean> outcome = new CompletableFuture<>();
+                reservation.whenConfirmed(plugin, confirmed -> {
+                    if (!confirmed) recipeManager.rollbackCraft(crafter, reservation);
+                    outcome.complete(confirmed);
+                });
+                mine.add(outcome);
+            }
+            return mine;
+        });
+
+        int confirmed = 0;
+        for (CompletableFuture<Boolean> outcome : outcomes) {
+            if (outcome.get(30, TimeUnit.SECONDS)) confirmed++;
+        }
+        int rejected = outcomes.size() - confirmed;
+
+        assertEquals(10, confirmed);
+        assertEquals(1_000, storedUses());
+        assertEquals(10, recipe.getCraftsUsed(), "rejected reservations must hand their in-memory claim back");
+
+        assertEquals(rejected, refunds.size());
+        for (List<ItemStack> refund : refunds) {
+            assertEquals(1, refund.size());
+            assertEquals(Material.DIAMOND, refund.get(0).getType());
+            assertEquals(2, refund.get(0).getAmount());
+        }
+    }
+}
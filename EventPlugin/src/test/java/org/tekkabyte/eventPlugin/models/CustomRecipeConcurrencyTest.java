@@ -0,0 +1,122 @@
+package org.tekkabyte.eventPlugin.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomRecipeConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    private static CustomRecipe limited(int maxCrafts) {
+        return CustomRecipe.fromEncoded("stress", "Stress", null, null, maxCrafts, 0);
+    }
+
+    private static void runConcurrently(int threads, Callable<Void> task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> f : futures) f.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void claimsNeverExceedTheLimit() throws Exception {
+        CustomRecipe recipe = limited(1_000);
+        AtomicInteger granted = new AtomicInteger();
+
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < 500; i++) {
+                if (recipe.tryClaimCrafts(1)) granted.incrementAndGet();
+            }
+            return null;
+        });
+
+        assertEquals(1_000, granted.get());
+        assertEquals(1_000, recipe.getCraftsUsed());
+        assertFalse(recipe.canCraftMore());
+        assertFalse(recipe.tryClaimCrafts(1));
+    }
+
+    @Test
+    void bulkClaimsAreAllOrNothing() throws Exception {
+        CustomRecipe recipe = limited(997);
+        AtomicInteger granted = new AtomicInteger();
+
+        runConcurrently(THREADS, () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < 500; i++) {
+                int amount = 1 + random.nextInt(64);
+                if (recipe.tryClaimCrafts(amount)) granted.addAndGet(amount);
+            }
+            return null;
+        });
+
+        assertEquals(granted.get(), recipe.getCraftsUsed());
+        assertTrue(recipe.getCraftsUsed() <= 997);
+    }
+
+    @Test
+    void releasesReturnExactlyWhatWasClaimed() throws Exception {
+        CustomRecipe recipe = limited(200);
+        AtomicBoolean overLimit = new AtomicBoolean(false);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Thread watcher = new Thread(() -> {
+            while (running.get()) {
+                if (recipe.getCraftsUsed() > 200) overLimit.set(true);
+            }
+        });
+        watcher.start();
+
+        AtomicInteger kept = new AtomicInteger();
+        try {
+            runConcurrently(THREADS, () -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 2_000; i++) {
+                    int amount = 1 + random.nextInt(8);
+                    if (!recipe.tryClaimCrafts(amount)) continue;
+                    // simulates a failed confirmation rolling the reservation back
+                    if (random.nextInt(4) != 0) recipe.releaseCrafts(amount);
+                    else kept.addAndGet(amount);
+                }
+                return null;
+            });
+        } finally {
+            running.set(false);
+            watcher.join();
+        }
+
+        assertFalse(overLimit.get());
+        assertEquals(kept.get(), recipe.getCraftsUsed());
+    }
+
+    @Test
+    void unlimitedRecipesGrantEveryClaim() throws Exception {
+        CustomRecipe recipe = limited(-1);
+
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < 1_000; i++) assertTrue(recipe.tryClaimCrafts(2));
+            return null;
+        });
+
+        assertEquals(THREADS * 2_000, recipe.getCraftsUsed());
+        assertTrue(recipe.canCraftMore());
+    }
+}